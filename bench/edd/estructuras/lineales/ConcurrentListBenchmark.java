@@ -0,0 +1,151 @@
+package edd.estructuras.lineales;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara ConcurrentArrayList contra un ArrayList envuelto en synchronized y
+ * contra CopyOnWriteArrayList. En cada grupo varios hilos leen con get y
+ * recorren la lista mientras un hilo la modifica, sin cambiar su tamaño.
+ *
+ * @author mindahrelfen
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentListBenchmark {
+
+    /**
+     * Implementación a medir.
+     */
+    @Param({"ConcurrentArrayList", "SynchronizedList", "CopyOnWriteArrayList"})
+    public String impl;
+
+    /**
+     * Cantidad de elementos de la lista.
+     */
+    @Param({"1000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (impl) {
+            case "ConcurrentArrayList": list = new ConcurrentArrayList<>(); break;
+            case "SynchronizedList": list = new SynchronizedList<>(new ArrayList<>()); break;
+            default: list = new CopyOnWriteArrayList<>(); break;
+        }
+        for (int i = 0; i < size; i++) {
+            list.add(list.size(), i);
+        }
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public Integer get() {
+        return list.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public Integer write() {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        return list.set(index, index);
+    }
+
+    @Benchmark
+    @Group("iterate")
+    @GroupThreads(7)
+    public long iterate() {
+        long sum = 0;
+        for (int v : list) {
+            sum += v;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Group("iterate")
+    @GroupThreads(1)
+    public Integer churn() {
+        list.add(list.size(), 0);
+        return list.remove(list.size() - 1);
+    }
+
+    /**
+     * Envoltura que protege cada operación de una lista con synchronized, la
+     * forma de compartir una lista sin estructuras concurrentes.
+     */
+    public static class SynchronizedList<E> implements List<E> {
+
+        private final List<E> list;
+
+        public SynchronizedList(List<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public synchronized int size() {
+            return list.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return list.isEmpty();
+        }
+
+        @Override
+        public synchronized E get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public synchronized E set(int index, E e) {
+            return list.set(index, e);
+        }
+
+        @Override
+        public synchronized void add(int index, E e) {
+            list.add(index, e);
+        }
+
+        @Override
+        public synchronized E remove(int index) {
+            return list.remove(index);
+        }
+
+        /**
+         * Recorrer la lista mientras otro hilo escribe requiere copiarla con
+         * el candado tomado.
+         */
+        @Override
+        public java.util.Iterator<E> iterator() {
+            ArrayList<E> copy = new ArrayList<>();
+            synchronized (this) {
+                copy.addAll(0, list);
+            }
+            return copy.iterator();
+        }
+    }
+}
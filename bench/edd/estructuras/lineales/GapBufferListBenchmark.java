@@ -0,0 +1,99 @@
+package edd.estructuras.lineales;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara GapBufferList contra ArrayList y LinkedList en ediciones
+ * agrupadas alrededor de un cursor que se mueve poco a poco, como en un
+ * editor de texto. Cada operación inserta y borra un elemento cerca del
+ * cursor, así el tamaño de la lista no cambia.
+ *
+ * @author mindahrelfen
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GapBufferListBenchmark {
+
+    /**
+     * Cantidad de pasos del cursor precalculados.
+     */
+    private static final int STEPS = 1 << 16;
+
+    /**
+     * Implementación a medir.
+     */
+    @Param({"ArrayList", "LinkedList", "GapBufferList"})
+    public String impl;
+
+    /**
+     * Cantidad de elementos de la lista.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * Distancia máxima que el cursor avanza o retrocede entre ediciones.
+     */
+    @Param({"8"})
+    public int spread;
+
+    private List<Integer> list;
+
+    private int[] deltas;
+
+    private int step;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rdm = new Random(42);
+
+        switch (impl) {
+            case "ArrayList": list = new ArrayList<>(); break;
+            case "LinkedList": list = new LinkedList<>(); break;
+            default: list = new GapBufferList<>(); break;
+        }
+        for (int i = 0; i < size; i++) {
+            list.add(list.size(), i);
+        }
+
+        deltas = new int[STEPS];
+        for (int i = 0; i < STEPS; i++) {
+            deltas[i] = rdm.nextInt(2 * spread + 1) - spread;
+        }
+        cursor = size / 2;
+        step = 0;
+    }
+
+    @Benchmark
+    public Integer clusteredEdit() {
+        cursor = Math.floorMod(cursor + deltas[step++ & (STEPS - 1)], size);
+        list.add(cursor, cursor);
+        return list.remove(Math.min(cursor + 1, size));
+    }
+
+    @Benchmark
+    public Integer clusteredGet() {
+        cursor = Math.floorMod(cursor + deltas[step++ & (STEPS - 1)], size);
+        return list.get(cursor);
+    }
+}
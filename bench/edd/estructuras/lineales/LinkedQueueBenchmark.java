@@ -0,0 +1,66 @@
+package edd.estructuras.lineales;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara ConcurrentLinkedList contra un LinkedList protegido con
+ * synchronized usados como cola compartida: cada operación agrega un
+ * elemento al final y saca el primero.
+ *
+ * @author mindahrelfen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+public class LinkedQueueBenchmark {
+
+    /**
+     * Implementación a medir.
+     */
+    @Param({"ConcurrentLinkedList", "SynchronizedLinkedList"})
+    public String impl;
+
+    private ConcurrentLinkedList<Integer> concurrent;
+
+    private LinkedList<Integer> locked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        concurrent = new ConcurrentLinkedList<>();
+        locked = new LinkedList<>();
+        for (int i = 0; i < 64; i++) {
+            concurrent.addLast(i);
+            locked.add(locked.size(), i);
+        }
+    }
+
+    @Benchmark
+    public Integer offerPoll() {
+        if (impl.equals("ConcurrentLinkedList")) {
+            concurrent.addLast(1);
+            return concurrent.pollFirst();
+        }
+        synchronized (locked) {
+            locked.add(locked.size(), 1);
+            return locked.remove(0);
+        }
+    }
+}
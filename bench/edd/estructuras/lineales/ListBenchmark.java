@@ -0,0 +1,208 @@
+package edd.estructuras.lineales;
+
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide las operaciones por índice de las implementaciones de List en el
+ * inicio, la mitad, el final o en posiciones al azar, con listas de 10 a
+ * 10 millones de elementos.
+ *
+ * Para que el tamaño no se aleje de size sin medir otra operación en cada
+ * llamada, add recorta el final de la lista cada SLACK inserciones y
+ * remove e iteratorRemove la rellenan por el final cada SLACK borrados. El
+ * costo del recorte o relleno se reparte entre esas llamadas.
+ *
+ * La corrida completa es larga, con -p se eligen implementaciones, tamaños
+ * o posiciones, por ejemplo
+ * ant bench -Dbench.args="lineales.ListBenchmark -p impl=ArrayList,LinkedList -p size=1000".
+ *
+ * @author mindahrelfen
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ListBenchmark {
+
+    /**
+     * Cantidad de posiciones al azar precalculadas.
+     */
+    private static final int RANDOMS = 1 << 16;
+
+    /**
+     * Máximo de elementos que se agregan o borran antes de restaurar el
+     * tamaño.
+     */
+    private static final int SLACK = 64;
+
+    /**
+     * Elemento que se agrega o escribe.
+     */
+    private static final Integer VALUE = -1;
+
+    /**
+     * Implementación a medir.
+     */
+    @Param({"ArrayList", "LinkedList", "CircularArrayList", "GapBufferList", "TreeList", "UnrolledLinkedList", "ArrayLinkedList"})
+    public String impl;
+
+    /**
+     * Cantidad de elementos de la lista.
+     */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * Posición donde se opera: head, middle, tail o random.
+     */
+    @Param({"head", "middle", "tail", "random"})
+    public String position;
+
+    private List<Integer> list;
+
+    private int[] randoms;
+
+    private int step;
+
+    private int slack;
+
+    private ArrayList<Integer> refill;
+
+    /**
+     * Crea una lista vacía de la implementación dada.
+     *
+     * @param impl Nombre de la clase.
+     *
+     * @return La lista.
+     */
+    static List<Integer> create(String impl) {
+        switch (impl) {
+            case "ArrayList": return new ArrayList<>();
+            case "LinkedList": return new LinkedList<>();
+            case "CircularArrayList": return new CircularArrayList<>();
+            case "GapBufferList": return new GapBufferList<>();
+            case "TreeList": return new TreeList<>();
+            case "UnrolledLinkedList": return new UnrolledLinkedList<>();
+            case "ArrayLinkedList": return new ArrayLinkedList<>();
+            default: throw new IllegalArgumentException("Implementacion desconocida: " + impl);
+        }
+    }
+
+    /**
+     * Crea una lista de la implementación dada con los valores 0 a size - 1.
+     *
+     * @param impl Nombre de la clase.
+     * @param size Cantidad de elementos.
+     *
+     * @return La lista.
+     */
+    static List<Integer> fill(String impl, int size) {
+        List<Integer> list = create(impl);
+
+        for (int i = 0; i < size; i++) {
+            list.add(list.size(), i);
+        }
+
+        return list;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rdm = new Random(42);
+
+        list = fill(impl, size);
+        randoms = new int[RANDOMS];
+        for (int i = 0; i < RANDOMS; i++) {
+            randoms[i] = rdm.nextInt(Integer.MAX_VALUE);
+        }
+        step = 0;
+
+        // Con listas chicas solo se deja variar el tamaño a la mitad.
+        slack = Math.max(1, Math.min(SLACK, size / 2));
+        refill = new ArrayList<>(slack);
+        for (int i = 0; i < slack; i++) {
+            refill.add(i, i);
+        }
+    }
+
+    /**
+     * Devuelve el índice donde se opera.
+     *
+     * @param bound Cantidad de índices válidos, mayor a cero.
+     *
+     * @return Un índice entre 0 y bound - 1.
+     */
+    private int index(int bound) {
+        switch (position) {
+            case "head": return 0;
+            case "middle": return bound >>> 1;
+            case "tail": return bound - 1;
+            default: return randoms[step++ & (RANDOMS - 1)] % bound;
+        }
+    }
+
+    /**
+     * Rellena la lista por el final si ya se borraron slack elementos.
+     */
+    private void ensureFilled() {
+        if (list.size() <= size - slack) list.addAll(list.size(), refill);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(index(size));
+    }
+
+    @Benchmark
+    public Integer set() {
+        return list.set(index(size), VALUE);
+    }
+
+    @Benchmark
+    public void add() {
+        int n = list.size();
+
+        if (n >= size + slack) {
+            list.removeRange(size, n);
+            n = size;
+        }
+        list.add(index(n + 1), VALUE);
+    }
+
+    @Benchmark
+    public Integer remove() {
+        ensureFilled();
+
+        return list.remove(index(list.size()));
+    }
+
+    @Benchmark
+    public Integer iteratorRemove() {
+        ListIterator<Integer> it;
+        Integer e;
+
+        ensureFilled();
+        it = list.listIterator(index(list.size()));
+        e = it.next();
+        it.remove();
+
+        return e;
+    }
+}
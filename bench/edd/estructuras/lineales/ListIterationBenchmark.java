@@ -0,0 +1,59 @@
+package edd.estructuras.lineales;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mide el recorrido completo con el iterador de las implementaciones de
+ * List de ListBenchmark. El resultado es el tiempo de recorrer toda la
+ * lista, dividido entre size da el costo por elemento.
+ *
+ * @author mindahrelfen
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ListIterationBenchmark {
+
+    /**
+     * Implementación a medir.
+     */
+    @Param({"ArrayList", "LinkedList", "CircularArrayList", "GapBufferList", "TreeList", "UnrolledLinkedList", "ArrayLinkedList"})
+    public String impl;
+
+    /**
+     * Cantidad de elementos de la lista.
+     */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = ListBenchmark.fill(impl, size);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer e : list) {
+            bh.consume(e);
+        }
+    }
+}
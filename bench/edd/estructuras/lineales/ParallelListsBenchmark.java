@@ -0,0 +1,186 @@
+package edd.estructuras.lineales;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide las operaciones de ParallelLists contra su versión secuencial sobre
+ * ArrayList. Los métodos parallel usan un ForkJoinPool con un solo hilo o
+ * con todos los núcleos, los métodos sequential son la línea base: un
+ * ArrayList.sort o un ciclo sin tareas. Si parallel con un hilo es más lento
+ * que sequential, esa diferencia es el costo de partir en tareas.
+ *
+ * @author mindahrelfen
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelListsBenchmark {
+
+    /**
+     * Lista con valores al azar que ninguna operación modifica.
+     */
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        /**
+         * Cantidad de elementos de la lista.
+         */
+        @Param({"1000000"})
+        public int size;
+
+        public ArrayList<Integer> source;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random rdm = new Random(42);
+
+            source = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                source.add(i, rdm.nextInt());
+            }
+        }
+    }
+
+    /**
+     * Copia desordenada de la lista, se rehace antes de cada ordenamiento.
+     * Ordenar un millón de elementos toma decenas de milisegundos, así el
+     * costo de preparar cada llamada no afecta la medición.
+     */
+    @State(Scope.Thread)
+    public static class Unsorted {
+
+        public ArrayList<Integer> list;
+
+        @Setup(Level.Invocation)
+        public void copy(Data data) {
+            list = new ArrayList<>(data.size);
+            list.addAll(0, data.source);
+        }
+    }
+
+    /**
+     * Operaciones paralelas con su ForkJoinPool.
+     */
+    @State(Scope.Benchmark)
+    public static class Pool {
+
+        /**
+         * Cantidad de hilos, cero para usar todos los núcleos.
+         */
+        @Param({"1", "0"})
+        public int threads;
+
+        public ForkJoinPool pool;
+
+        public ParallelLists parallel;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            pool = new ForkJoinPool(threads == 0 ? Runtime.getRuntime().availableProcessors() : threads);
+            parallel = new ParallelLists(pool, ParallelLists.THRESHOLD);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parallelSort(Pool pool, Unsorted unsorted) {
+        pool.parallel.sort(unsorted.list, null);
+        return unsorted.list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sequentialSort(Unsorted unsorted) {
+        unsorted.list.sort(null);
+        return unsorted.list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parallelMap(Pool pool, Data data) {
+        return pool.parallel.map(data.source, x -> x ^ (x >>> 7));
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sequentialMap(Data data) {
+        ArrayList<Integer> result = new ArrayList<>(data.size);
+        Integer x;
+
+        for (int i = 0; i < data.size; i++) {
+            x = data.source.get(i);
+            result.add(i, x ^ (x >>> 7));
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parallelFilter(Pool pool, Data data) {
+        return pool.parallel.filter(data.source, x -> (x & 1) == 0);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sequentialFilter(Data data) {
+        ArrayList<Integer> result = new ArrayList<>();
+
+        for (Integer x : data.source) {
+            if ((x & 1) == 0) result.add(result.size(), x);
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public Integer parallelReduce(Pool pool, Data data) {
+        return pool.parallel.reduce(data.source, 0, Integer::sum);
+    }
+
+    @Benchmark
+    public Integer sequentialReduce(Data data) {
+        Integer acc = 0;
+
+        for (Integer x : data.source) {
+            acc = acc + x;
+        }
+
+        return acc;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parallelScan(Pool pool, Data data) {
+        return pool.parallel.scan(data.source, Integer::sum);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> sequentialScan(Data data) {
+        ArrayList<Integer> result = new ArrayList<>(data.size);
+        Integer acc = 0;
+
+        for (int i = 0; i < data.size; i++) {
+            acc = acc + data.source.get(i);
+            result.add(i, acc);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide el costo de tomar una copia de lectura de una lista grande después
+ * de modificarla: con ArrayList se copia el arreglo, con
+ * PersistentVector.Builder se toma un snapshot que solo copia tail y el
+ * camino que la escritura siguiente vuelve a copiar.
+ *
+ * @author mindahrelfen
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentVectorBenchmark {
+
+    /**
+     * Implementación a medir.
+     */
+    @Param({"ArrayList", "PersistentVector"})
+    public String impl;
+
+    /**
+     * Cantidad de elementos de la lista.
+     */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private ArrayList<Object> list;
+
+    private PersistentVector.Builder<Integer> builder;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (impl.equals("ArrayList")) {
+            list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(i, i);
+            }
+        } else {
+            builder = new PersistentVector.Builder<>();
+            for (int i = 0; i < size; i++) {
+                builder.add(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object writeThenSnapshot() {
+        int index = next;
+
+        next = (next + 7919) % size;
+        if (impl.equals("ArrayList")) {
+            list.set(index, index);
+            return Arrays.copyOf(list.array, list.size);
+        }
+        builder.set(index, index);
+        return builder.snapshot();
+    }
+}
@@ -0,0 +1,106 @@
+package edd.estructuras.lineales;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara BoundedRingQueue contra un CircularArrayList protegido con
+ * synchronized usados como cola compartida: cada operación agrega un
+ * elemento y saca el primero, o un bloque de elementos en batch.
+ *
+ * @author mindahrelfen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+public class RingQueueBenchmark {
+
+    /**
+     * Cantidad de elementos de cada bloque en batch.
+     */
+    private static final int BATCH = 16;
+
+    /**
+     * Implementación a medir.
+     */
+    @Param({"BoundedRingQueue", "SynchronizedCircularArrayList"})
+    public String impl;
+
+    private BoundedRingQueue<Integer> ring;
+
+    private CircularArrayList<Integer> locked;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ring = new BoundedRingQueue<>(1024);
+        locked = new CircularArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            ring.offer(i);
+            locked.add(locked.size(), i);
+        }
+    }
+
+    @Benchmark
+    public Integer offerPoll() {
+        if (impl.equals("BoundedRingQueue")) {
+            ring.offer(1);
+            return ring.poll();
+        }
+        synchronized (locked) {
+            locked.add(locked.size(), 1);
+            return locked.remove(0);
+        }
+    }
+
+    @Benchmark
+    public int batch(Block block) {
+        if (impl.equals("BoundedRingQueue")) {
+            ring.offer(block.elems, 0, BATCH);
+            return ring.drain(e -> block.sink += e, BATCH);
+        }
+        synchronized (locked) {
+            for (int i = 0; i < BATCH; i++) {
+                locked.add(locked.size(), block.elems[i]);
+            }
+            for (int i = 0; i < BATCH; i++) {
+                block.sink += locked.remove(0);
+            }
+        }
+        return BATCH;
+    }
+
+    /**
+     * Bloque de elementos de cada hilo.
+     */
+    @State(Scope.Thread)
+    public static class Block {
+
+        public final Integer[] elems = new Integer[BATCH];
+
+        public int sink;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            for (int i = 0; i < BATCH; i++) {
+                elems[i] = i;
+            }
+        }
+    }
+}
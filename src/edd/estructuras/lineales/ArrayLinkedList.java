@@ -0,0 +1,439 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementación de Lista Doblemente Ligada sobre arreglos. En lugar de un
+ * objeto por nodo, cada nodo es una posición de tres arreglos paralelos: el
+ * elemento en elems y los índices de sus vecinos en next y prev. Así cada
+ * elemento cuesta una referencia y dos enteros, y recorrer la lista lee
+ * arreglos contiguos.
+ *
+ * La posición cero es el centinela, que hace de cabeza y cola a la vez. Las
+ * posiciones libres forman una cadena ligada por next que empieza en free.
+ *
+ * @author mindahrelfen
+ */
+public class ArrayLinkedList<E> implements List<E> {
+
+    /**
+     * Posición del nodo centinela.
+     */
+    protected static final int SENTINEL = 0;
+
+    /**
+     * Posición que indica el fin de la cadena de libres.
+     */
+    protected static final int NONE = -1;
+
+    /**
+     * Elemento guardado en cada posición.
+     */
+    protected E[] elems;
+
+    /**
+     * Posición del nodo siguiente de cada posición.
+     */
+    protected int[] next;
+
+    /**
+     * Posición del nodo anterior de cada posición.
+     */
+    protected int[] prev;
+
+    /**
+     * Primera posición libre, o NONE si no hay.
+     */
+    protected int free;
+
+    /**
+     * Cantidad de elementos dentro de esta Lista.
+     */
+    protected int size;
+
+    /**
+     * Política con la que crecen los arreglos cuando se llenan.
+     */
+    protected GrowthPolicy policy;
+
+    /**
+     * Construye una lista vacía.
+     */
+    public ArrayLinkedList() {
+        this(ArrayList.CAPACITY);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     */
+    public ArrayLinkedList(int capacity) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial y política de
+     * crecimiento.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     * @param policy Política de crecimiento de los arreglos.
+     */
+    public ArrayLinkedList(int capacity, GrowthPolicy policy) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacidad ilegal: " + capacity);
+        if (policy == null) throw new IllegalArgumentException("Politica nula");
+
+        // Una posición más para el centinela.
+        elems = (E[]) new Object[capacity + 1];
+        next = new int[capacity + 1];
+        prev = new int[capacity + 1];
+        this.policy = policy;
+        reset();
+    }
+
+    /**
+     * Deja la lista vacía con todas las posiciones, salvo el centinela, en
+     * la cadena de libres.
+     */
+    protected void reset() {
+        next[SENTINEL] = SENTINEL;
+        prev[SENTINEL] = SENTINEL;
+        free = NONE;
+        chainFree(1, elems.length);
+        size = 0;
+    }
+
+    /**
+     * Agrega las posiciones [from, to) a la cadena de libres, en orden.
+     *
+     * @param from Primera posición a agregar.
+     * @param to Posición siguiente a la última a agregar.
+     */
+    protected void chainFree(int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            next[i] = free;
+            free = i;
+        }
+    }
+
+    /**
+     * Asegura que quepan al menos minCapacity elementos sin que los arreglos
+     * crezcan.
+     *
+     * @param minCapacity Capacidad mínima deseada.
+     */
+    public void ensureCapacity(int minCapacity) {
+        int old, capacity;
+
+        if (minCapacity <= capacity()) return;
+
+        old = elems.length;
+        capacity = policy.newCapacity(capacity(), minCapacity) + 1;
+        elems = Arrays.copyOf(elems, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        chainFree(old, capacity);
+    }
+
+    /**
+     * Devuelve la capacidad actual de los arreglos.
+     *
+     * @return Cantidad de elementos que caben sin que los arreglos crezcan.
+     */
+    public int capacity() {
+        return elems.length - 1;
+    }
+
+    /**
+     * Reacomoda los nodos para que el elemento en el índice i quede en la
+     * posición i + 1, así recorrer la lista lee los arreglos en orden. Las
+     * posiciones libres quedan todas al final.
+     */
+    public void compact() {
+        E[] aux = (E[]) new Object[elems.length];
+        int current = next[SENTINEL];
+
+        for (int i = 1; i <= size; i++) {
+            aux[i] = elems[current];
+            current = next[current];
+        }
+        elems = aux;
+        for (int i = 0; i <= size; i++) {
+            next[i] = i + 1;
+            prev[i] = i - 1;
+        }
+        next[size] = SENTINEL;
+        prev[SENTINEL] = size;
+        free = NONE;
+        chainFree(size + 1, elems.length);
+    }
+
+    /**
+     * Obtiene la posición del nodo en el índice dado recorriendo desde el
+     * extremo más cercano.
+     *
+     * @param index Índice válido del nodo a buscar.
+     *
+     * @return La posición del nodo.
+     */
+    protected int slot(int index) {
+        int current;
+
+        if (index < size / 2) {
+            current = next[SENTINEL];
+            for (int i = 0; i < index; i++) {
+                current = next[current];
+            }
+        } else {
+            current = prev[SENTINEL];
+            for (int i = size - 1; i > index; i--) {
+                current = prev[current];
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Inserta un elemento antes del nodo en la posición dada. Supone que hay
+     * al menos una posición libre.
+     *
+     * @param at Posición del nodo referencia.
+     * @param e Elemento a insertar.
+     */
+    protected void addBefore(int at, E e) {
+        int s = free;
+
+        free = next[s];
+        elems[s] = e;
+        next[s] = at;
+        prev[s] = prev[at];
+        next[prev[at]] = s;
+        prev[at] = s;
+        size++;
+    }
+
+    /**
+     * Desliga el nodo en la posición dada y regresa la posición a la cadena
+     * de libres.
+     *
+     * @param s Posición del nodo a borrar.
+     *
+     * @return El elemento borrado.
+     */
+    protected E removeSlot(int s) {
+        E e = elems[s];
+
+        next[prev[s]] = next[s];
+        prev[next[s]] = prev[s];
+        elems[s] = null;
+        next[s] = free;
+        free = s;
+        size--;
+
+        return e;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de esta lista.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size);
+
+        return elems[slot(index)];
+    }
+
+    @Override
+    public E set(int index, E e) throws IndexOutOfBoundsException {
+        E previous;
+        int s;
+
+        checkIndex(index, size);
+
+        s = slot(index);
+        previous = elems[s];
+        elems[s] = e;
+
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        checkIndex(index, size + 1);
+
+        ensureCapacity(size + 1);
+        addBefore(index == size ? SENTINEL : slot(index), e);
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size);
+
+        return removeSlot(slot(index));
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        ArrayList<E> copy;
+        int at;
+
+        checkIndex(index, size + 1);
+
+        if (c == this) {
+            copy = new ArrayList<>(size);
+            copy.addAll(0, this);
+            c = copy;
+        }
+
+        // Se busca el nodo una sola vez, cada elemento se inserta antes de él.
+        at = index == size ? SENTINEL : slot(index);
+        for (E e : c) {
+            ensureCapacity(size + 1);
+            addBefore(at, e);
+        }
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        int current, s;
+
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+        if (from == to) return;
+
+        current = slot(from);
+        for (int i = from; i < to; i++) {
+            s = current;
+            current = next[current];
+            removeSlot(s);
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elems, null);
+        reset();
+    }
+
+    /**
+     * Copia los elementos en orden a un arreglo, lo ordena y los escribe de
+     * vuelta recorriendo las ligas, sin cambiar las ligas.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        E[] a = (E[]) new Object[size];
+        int s = next[SENTINEL];
+
+        for (int i = 0; i < size; i++) {
+            a[i] = elems[s];
+            s = next[s];
+        }
+        Arrays.sort(a, c);
+
+        s = next[SENTINEL];
+        for (int i = 0; i < size; i++) {
+            elems[s] = a[i];
+            s = next[s];
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayLinkedListIterator();
+    }
+
+    /**
+     * Clase que implementa el Iterador de la clase ArrayLinkedList.
+     */
+    protected class ArrayLinkedListIterator implements Iterator<E> {
+
+        /**
+         * Posición del nodo que contiene el valor resultante de invocar next.
+         */
+        protected int siguiente;
+
+        /**
+         * Bandera que dice si se puede borrar un elemento o no.
+         */
+        protected boolean canRemove;
+
+        /**
+         * Crea un iterador que apunta al primer elemento.
+         */
+        public ArrayLinkedListIterator() {
+            siguiente = next[SENTINEL];
+            canRemove = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return siguiente != SENTINEL;
+        }
+
+        @Override
+        public E next() {
+            E e;
+
+            if (!hasNext()) throw new NoSuchElementException();
+
+            e = elems[siguiente];
+            siguiente = next[siguiente];
+            canRemove = true;
+
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException();
+
+            removeSlot(prev[siguiente]);
+            canRemove = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb;
+        int current;
+
+        if (isEmpty()) return "[]";
+
+        sb = new StringBuilder();
+        current = next[SENTINEL];
+
+        sb.append("[");
+        while (current != SENTINEL) {
+            sb.append(elems[current]);
+            current = next[current];
+            if (current != SENTINEL) sb.append(" ");
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
@@ -1,8 +1,14 @@
 
 package edd.estructuras.lineales;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * Implementación de ArrayList.
@@ -26,6 +32,11 @@ public class ArrayList<E> implements List<E> {
      */
     protected int size;
 
+    /**
+     * Política con la que crece el arreglo cuando se llena.
+     */
+    protected GrowthPolicy policy;
+
     /**
      * Construye una lista vacía.
      */
@@ -39,8 +50,53 @@ public class ArrayList<E> implements List<E> {
      * @param capacity Capacidad inicial de la lista.
      */
     public ArrayList(int capacity) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial y política de
+     * crecimiento.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     * @param policy Política de crecimiento del arreglo.
+     */
+    public ArrayList(int capacity, GrowthPolicy policy) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacidad ilegal: " + capacity);
+        if (policy == null) throw new IllegalArgumentException("Politica nula");
+
         size = 0;
         array = (E[]) new Object[capacity];
+        this.policy = policy;
+    }
+
+    /**
+     * Asegura que el arreglo pueda guardar al menos minCapacity elementos sin
+     * volver a crecer.
+     *
+     * @param minCapacity Capacidad mínima deseada.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            array = Arrays.copyOf(array, policy.newCapacity(array.length, minCapacity));
+        }
+    }
+
+    /**
+     * Reduce la capacidad del arreglo al número de elementos de la lista.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            array = Arrays.copyOf(array, size);
+        }
+    }
+
+    /**
+     * Devuelve la capacidad actual del arreglo.
+     *
+     * @return Cantidad de elementos que caben sin que el arreglo crezca.
+     */
+    public int capacity() {
+        return array.length;
     }
 
     @Override
@@ -84,24 +140,20 @@ public class ArrayList<E> implements List<E> {
     }
 
     @Override
-    public void add(int index, E e) throws IndexOutOfBoundsException {
-        E[] aux;
-
-        checkIndex(index, size + 1);
-
-        if (size == array.length) {
-            aux = (E[]) new Object[size * 2];
+    public int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, array[i])) return i;
+        }
 
-            for (int j = 0; j < size; j++) {
-                aux[j] = array[j];
-            }
+        return -1;
+    }
 
-            array = aux;
-        }
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        checkIndex(index, size + 1);
 
-        for (int j = size - 1; j >= index; j--) {
-            array[j + 1] = array[j];
-        }
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
 
         array[index] = e;
         size++;
@@ -115,9 +167,7 @@ public class ArrayList<E> implements List<E> {
 
         e = array[index];
 
-        for (int j = index; j < size - 1; j++) {
-            array[j] = array[j + 1];
-        }
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
 
         array[size - 1] = null;
         size--;
@@ -125,6 +175,68 @@ public class ArrayList<E> implements List<E> {
         return e;
     }
 
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        Object[] elems;
+        int m;
+
+        checkIndex(index, size + 1);
+
+        elems = toArray(c);
+        m = elems.length;
+        if (m == 0) return;
+
+        ensureCapacity(size + m);
+        System.arraycopy(array, index, array, index + m, size - index);
+        System.arraycopy(elems, 0, array, index, m);
+        size += m;
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+
+        System.arraycopy(array, to, array, from, size - to);
+        Arrays.fill(array, size - (to - from), size, null);
+        size -= to - from;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(array, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Copia los elementos del iterable dado a un arreglo nuevo. Si el iterable
+     * es un ArrayList se copia su arreglo en bloque, lo cual también cubre el
+     * caso en que se agrega una lista a sí misma.
+     *
+     * @param c Iterable a copiar.
+     *
+     * @return Un arreglo con los elementos de c en orden.
+     */
+    protected Object[] toArray(Iterable<?> c) {
+        Object[] elems;
+        int n;
+
+        if (c instanceof ArrayList) {
+            ArrayList<?> l = (ArrayList<?>) c;
+            return Arrays.copyOf(l.array, l.size, Object[].class);
+        }
+
+        elems = new Object[c instanceof List ? ((List<?>) c).size() : CAPACITY];
+        n = 0;
+        for (Object e : c) {
+            if (n == elems.length) elems = Arrays.copyOf(elems, Math.max(n * 2, CAPACITY));
+            elems[n++] = e;
+        }
+
+        return n == elems.length ? elems : Arrays.copyOf(elems, n);
+    }
+
     @Override
     public Iterator<E> iterator() {
         return new ArrayListIterator();
@@ -172,23 +284,200 @@ public class ArrayList<E> implements List<E> {
 
         @Override
         public void remove() {
-            int index;
-
             if (!canRemove) throw new IllegalStateException();
 
             next--;
-            index = next;
-            while (index < size - 1) {
-                array[index] = array[index + 1];
-                index++;
-            }
+            System.arraycopy(array, next + 1, array, next, size - next - 1);
 
-            size--;
+            array[--size] = null;
 
             canRemove = false;
         }
     }
 
+    @Override
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size + 1);
+
+        return new ArrayListListIterator(index);
+    }
+
+    /**
+     * Iterador bidireccional de la clase ArrayList. Insertar o borrar en el
+     * cursor corre una sola vez los elementos siguientes.
+     */
+    protected class ArrayListListIterator extends ArrayListIterator implements ListIterator<E> {
+
+        /**
+         * Posición del último valor devuelto por next o previous, -1 si no se
+         * puede borrar ni modificar.
+         */
+        protected int last;
+
+        /**
+         * Inicializa el iterador en el índice dado.
+         *
+         * @param index Índice del primer valor que devuelve next.
+         */
+        public ArrayListListIterator(int index) {
+            next = index;
+            last = -1;
+        }
+
+        @Override
+        public E next() {
+            E e = super.next();
+            last = next - 1;
+            return e;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return next > 0;
+        }
+
+        @Override
+        public E previous() {
+            if (!hasPrevious()) throw new NoSuchElementException();
+
+            last = --next;
+
+            return array[last];
+        }
+
+        @Override
+        public int nextIndex() {
+            return next;
+        }
+
+        @Override
+        public int previousIndex() {
+            return next - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) throw new IllegalStateException();
+
+            ArrayList.this.remove(last);
+            if (last < next) next--;
+            last = -1;
+        }
+
+        @Override
+        public void set(E e) {
+            if (last < 0) throw new IllegalStateException();
+
+            ArrayList.this.set(last, e);
+        }
+
+        @Override
+        public void add(E e) {
+            // Se avanza solo si add acepta el elemento, SortedArrayList puede
+            // rechazarlo.
+            ArrayList.this.add(next, e);
+            next++;
+            last = -1;
+        }
+    }
+
+    /**
+     * Ordena los elementos con Arrays.sort, que para objetos es un TimSort
+     * estable y aprovecha los tramos ya ordenados.
+     *
+     * Se ordena una copia y luego se escribe sobre el arreglo: si el
+     * comparador lanza una excepción a media mezcla, TimSort deja elementos
+     * repetidos y perdidos en el arreglo que ordena, así la lista no cambia.
+     *
+     * @param c Criterio de orden, null para el orden natural.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        E[] aux = Arrays.copyOf(array, size);
+
+        Arrays.sort(aux, c);
+        System.arraycopy(aux, 0, array, 0, size);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArrayListSpliterator(0, size);
+    }
+
+    /**
+     * Spliterator de la clase ArrayList. Cubre un rango de índices del
+     * arreglo y se parte a la mitad, así cada parte recorre el arreglo
+     * directamente sin copiar.
+     */
+    protected class ArrayListSpliterator implements Spliterator<E> {
+
+        /**
+         * Índice del siguiente valor a devolver.
+         */
+        protected int origin;
+
+        /**
+         * Índice siguiente al último valor a devolver.
+         */
+        protected int fence;
+
+        /**
+         * Crea un spliterator sobre el rango dado.
+         *
+         * @param origin Índice del primer valor.
+         * @param fence Índice siguiente al último valor.
+         */
+        public ArrayListSpliterator(int origin, int fence) {
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) throw new NullPointerException();
+            if (origin >= fence) return false;
+
+            action.accept(array[origin++]);
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            E[] a = array;
+            int hi = fence;
+
+            if (action == null) throw new NullPointerException();
+
+            for (int i = origin; i < hi; i++) {
+                action.accept(a[i]);
+            }
+            origin = hi;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int lo = origin;
+            int mid = (lo + fence) >>> 1;
+
+            if (lo >= mid) return null;
+
+            origin = mid;
+
+            return new ArrayListSpliterator(lo, mid);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder sb;
@@ -0,0 +1,329 @@
+package edd.estructuras.lineales;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Cola acotada para varios productores y varios consumidores sin candados,
+ * al estilo de Vyukov. Los elementos se guardan en un arreglo circular cuya
+ * capacidad es una potencia de dos, como el arreglo de ArrayList pero sin
+ * correr elementos.
+ *
+ * Cada posición del arreglo tiene un número de secuencia que dice en qué
+ * vuelta está libre o llena: la posición i está libre para el productor del
+ * turno pos cuando su secuencia es pos, y llena para el consumidor del turno
+ * pos cuando es pos + 1. Productores y consumidores solo compiten con un
+ * compareAndSet sobre su propio contador, tail o head, y después escriben o
+ * leen su posición sin estorbarse.
+ *
+ * @author mindahrelfen
+ */
+public class BoundedRingQueue<E> {
+
+    /**
+     * Cantidad de long entre contadores, 128 bytes, para que head y tail no
+     * compartan línea de caché entre sí ni con otros objetos.
+     */
+    protected static final int PAD = 16;
+
+    /**
+     * Posición de head dentro de counters.
+     */
+    protected static final int HEAD = PAD;
+
+    /**
+     * Posición de tail dentro de counters.
+     */
+    protected static final int TAIL = 2 * PAD;
+
+    /**
+     * Arreglo donde se guardan los elementos.
+     */
+    protected final E[] buffer;
+
+    /**
+     * Número de secuencia de cada posición de buffer.
+     */
+    protected final AtomicLongArray sequences;
+
+    /**
+     * Contadores head, turno del siguiente consumidor, y tail, turno del
+     * siguiente productor, separados por relleno.
+     */
+    protected final AtomicLongArray counters = new AtomicLongArray(3 * PAD);
+
+    /**
+     * Capacidad menos uno, para calcular posiciones con un and.
+     */
+    protected final int mask;
+
+    /**
+     * Estrategia de espera de put y take.
+     */
+    protected final WaitStrategy wait;
+
+    /**
+     * Construye una cola vacía que espera con WaitStrategy.YIELD.
+     *
+     * @param capacity Capacidad mínima, se redondea a una potencia de dos
+     * no menor que dos.
+     */
+    public BoundedRingQueue(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    /**
+     * Construye una cola vacía.
+     *
+     * @param capacity Capacidad mínima, se redondea a una potencia de dos
+     * no menor que dos.
+     * @param wait Estrategia de espera de put y take.
+     */
+    public BoundedRingQueue(int capacity, WaitStrategy wait) {
+        int n;
+
+        if (capacity < 1 || capacity > 1 << 30) throw new IllegalArgumentException("Capacidad ilegal: " + capacity);
+        if (wait == null) throw new IllegalArgumentException("Estrategia nula");
+
+        // Con una sola posición, llena para el turno pos se vería libre para
+        // el turno pos + 1, por eso la capacidad mínima es dos.
+        n = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        buffer = (E[]) new Object[n];
+        sequences = new AtomicLongArray(n);
+        for (int i = 0; i < n; i++) {
+            sequences.set(i, i);
+        }
+        mask = n - 1;
+        this.wait = wait;
+    }
+
+    /**
+     * Devuelve la capacidad de la cola.
+     *
+     * @return Cantidad máxima de elementos.
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Devuelve la cantidad de elementos. Con otros hilos trabajando es solo
+     * una aproximación.
+     *
+     * @return Cantidad de elementos entre 0 y capacity().
+     */
+    public int size() {
+        long head, tail;
+
+        // Se relee head hasta que no cambie para no restar contadores de
+        // momentos muy distintos.
+        do {
+            head = counters.get(HEAD);
+            tail = counters.get(TAIL);
+        } while (head != counters.get(HEAD));
+
+        return (int) Math.max(0, Math.min(tail - head, buffer.length));
+    }
+
+    /**
+     * Pregunta si la cola esta vacia.
+     *
+     * @return Devuelve true si no hay elementos.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Agrega un elemento si hay espacio.
+     *
+     * @param e Elemento a agregar, no null.
+     *
+     * @return Devuelve true si se agregó, false si la cola está llena.
+     */
+    public boolean offer(E e) {
+        long pos, dif;
+        int i;
+
+        if (e == null) throw new NullPointerException();
+
+        pos = counters.get(TAIL);
+        while (true) {
+            i = (int) pos & mask;
+            dif = sequences.get(i) - pos;
+            if (dif == 0) {
+                if (counters.compareAndSet(TAIL, pos, pos + 1)) break;
+                pos = counters.get(TAIL);
+            } else if (dif < 0) {
+                return false;
+            } else {
+                pos = counters.get(TAIL);
+            }
+        }
+
+        buffer[i] = e;
+        sequences.lazySet(i, pos + 1);
+
+        return true;
+    }
+
+    /**
+     * Saca el primer elemento si hay.
+     *
+     * @return El elemento, o null si la cola está vacía.
+     */
+    public E poll() {
+        long pos, dif;
+        int i;
+        E e;
+
+        pos = counters.get(HEAD);
+        while (true) {
+            i = (int) pos & mask;
+            dif = sequences.get(i) - (pos + 1);
+            if (dif == 0) {
+                if (counters.compareAndSet(HEAD, pos, pos + 1)) break;
+                pos = counters.get(HEAD);
+            } else if (dif < 0) {
+                return null;
+            } else {
+                pos = counters.get(HEAD);
+            }
+        }
+
+        e = buffer[i];
+        buffer[i] = null;
+        sequences.lazySet(i, pos + buffer.length);
+
+        return e;
+    }
+
+    /**
+     * Agrega un elemento esperando con la estrategia de la cola mientras
+     * esté llena.
+     *
+     * @param e Elemento a agregar, no null.
+     */
+    public void put(E e) {
+        for (int attempts = 0; !offer(e); attempts++) {
+            wait.idle(attempts);
+        }
+    }
+
+    /**
+     * Saca el primer elemento esperando con la estrategia de la cola
+     * mientras esté vacía.
+     *
+     * @return El elemento.
+     */
+    public E take() {
+        E e;
+
+        for (int attempts = 0; (e = poll()) == null; attempts++) {
+            wait.idle(attempts);
+        }
+
+        return e;
+    }
+
+    /**
+     * Agrega en orden los elementos [from, to) del arreglo dado, tantos como
+     * quepan, sin esperar. Solo reserva las posiciones consecutivas cuya
+     * secuencia ya dice que están libres, todas con un solo compareAndSet,
+     * así los elementos quedan juntos aunque otros productores escriban a la
+     * vez y un consumidor lento nunca deja esperando al productor.
+     *
+     * @param elems Arreglo con los elementos, ninguno null.
+     * @param from Primer índice a agregar.
+     * @param to Índice siguiente al último a agregar.
+     *
+     * @return Cantidad de elementos agregados, 0 si la cola está llena.
+     */
+    public int offer(E[] elems, int from, int to) {
+        long pos, dif;
+        int k, i;
+
+        if (from < 0 || to > elems.length || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+        for (int j = from; j < to; j++) {
+            if (elems[j] == null) throw new NullPointerException();
+        }
+        if (from == to) return 0;
+
+        while (true) {
+            pos = counters.get(TAIL);
+            dif = sequences.get((int) pos & mask) - pos;
+            if (dif < 0) return 0;
+            if (dif > 0) continue;
+            // La secuencia pos + k solo aparece cuando el consumidor de la
+            // vuelta anterior ya liberó la posición. Al dar la vuelta la
+            // secuencia de pos es pos, no pos + capacity, y la cuenta para.
+            k = 1;
+            while (k < to - from && sequences.get((int) (pos + k) & mask) == pos + k) {
+                k++;
+            }
+            if (counters.compareAndSet(TAIL, pos, pos + k)) break;
+        }
+
+        for (int j = 0; j < k; j++) {
+            i = (int) (pos + j) & mask;
+            buffer[i] = elems[from + j];
+            sequences.lazySet(i, pos + j + 1);
+        }
+
+        return k;
+    }
+
+    /**
+     * Saca hasta max elementos en orden y los entrega a la acción dada, sin
+     * esperar. Solo reserva las posiciones consecutivas que ya están llenas,
+     * todas con un solo compareAndSet, y las libera antes de llamar a la
+     * acción, así una excepción de la acción no deja posiciones tomadas. Si
+     * la acción lanza una excepción, los elementos que faltaban de entregar
+     * se pierden.
+     *
+     * @param action Acción que recibe cada elemento.
+     * @param max Cantidad máxima de elementos a sacar.
+     *
+     * @return Cantidad de elementos sacados.
+     */
+    public int drain(Consumer<? super E> action, int max) {
+        E[] taken;
+        long pos, dif;
+        int k, i;
+
+        if (action == null) throw new NullPointerException();
+        if (max <= 0) return 0;
+
+        while (true) {
+            pos = counters.get(HEAD);
+            dif = sequences.get((int) pos & mask) - (pos + 1);
+            if (dif < 0) return 0;
+            if (dif > 0) continue;
+            k = 1;
+            while (k < max && sequences.get((int) (pos + k) & mask) == pos + k + 1) {
+                k++;
+            }
+            if (counters.compareAndSet(HEAD, pos, pos + k)) break;
+        }
+
+        taken = (E[]) new Object[k];
+        for (int j = 0; j < k; j++) {
+            i = (int) (pos + j) & mask;
+            taken[j] = buffer[i];
+            buffer[i] = null;
+            sequences.lazySet(i, pos + j + buffer.length);
+        }
+        for (E e : taken) {
+            action.accept(e);
+        }
+
+        return k;
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedRingQueue[" + size() + "/" + buffer.length + "]";
+    }
+}
@@ -0,0 +1,331 @@
+package edd.estructuras.lineales;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementación de una lista sobre un arreglo circular. El primer elemento
+ * no está fijo en la posición cero del arreglo sino en head, así insertar o
+ * borrar en cualquiera de los dos extremos es O(1) y en medio solo se corren
+ * los elementos del lado más cercano.
+ *
+ * @author mindahrelfen
+ */
+public class CircularArrayList<E> implements List<E> {
+
+    /**
+     * Arreglo donde se guardan los valores que esta lista contiene.
+     */
+    protected E[] array;
+
+    /**
+     * Posición del arreglo donde se encuentra el primer elemento.
+     */
+    protected int head;
+
+    /**
+     * Cantidad de elementos dentro de esta Lista.
+     */
+    protected int size;
+
+    /**
+     * Política con la que crece el arreglo cuando se llena.
+     */
+    protected GrowthPolicy policy;
+
+    /**
+     * Construye una lista vacía.
+     */
+    public CircularArrayList() {
+        this(ArrayList.CAPACITY);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     */
+    public CircularArrayList(int capacity) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial y política de
+     * crecimiento.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     * @param policy Política de crecimiento del arreglo.
+     */
+    public CircularArrayList(int capacity, GrowthPolicy policy) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacidad ilegal: " + capacity);
+        if (policy == null) throw new IllegalArgumentException("Politica nula");
+
+        array = (E[]) new Object[capacity];
+        head = 0;
+        size = 0;
+        this.policy = policy;
+    }
+
+    /**
+     * Asegura que el arreglo pueda guardar al menos minCapacity elementos sin
+     * volver a crecer. Al crecer, el primer elemento queda en la posición
+     * cero.
+     *
+     * @param minCapacity Capacidad mínima deseada.
+     */
+    public void ensureCapacity(int minCapacity) {
+        E[] aux;
+        int first;
+
+        if (minCapacity <= array.length) return;
+
+        aux = (E[]) new Object[policy.newCapacity(array.length, minCapacity)];
+        first = Math.min(size, array.length - head);
+        System.arraycopy(array, head, aux, 0, first);
+        System.arraycopy(array, 0, aux, first, size - first);
+        array = aux;
+        head = 0;
+    }
+
+    /**
+     * Devuelve la capacidad actual del arreglo.
+     *
+     * @return Cantidad de elementos que caben sin que el arreglo crezca.
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Traduce un índice de la lista a una posición del arreglo.
+     *
+     * @param index Índice entre 0 y la capacidad del arreglo.
+     *
+     * @return La posición del elemento en el arreglo.
+     */
+    protected int position(int index) {
+        int p = head + index;
+        return p < array.length ? p : p - array.length;
+    }
+
+    /**
+     * Abre m posiciones libres a partir de index corriendo los elementos del
+     * lado más cercano. Supone que la capacidad alcanza para size + m.
+     *
+     * @param index Índice donde inicia el espacio abierto.
+     * @param m Cantidad de posiciones a abrir.
+     */
+    protected void openGap(int index, int m) {
+        if (index < size - index) {
+            head = position(array.length - m);
+            for (int i = 0; i < index; i++) {
+                array[position(i)] = array[position(i + m)];
+            }
+        } else {
+            for (int i = size - 1; i >= index; i--) {
+                array[position(i + m)] = array[position(i)];
+            }
+        }
+        size += m;
+    }
+
+    /**
+     * Cierra las posiciones [index, index + m) corriendo los elementos del
+     * lado más cercano y limpia las posiciones que quedan libres.
+     *
+     * @param index Índice del primer elemento a borrar.
+     * @param m Cantidad de elementos a borrar.
+     */
+    protected void closeGap(int index, int m) {
+        if (index < size - index - m) {
+            for (int i = index - 1; i >= 0; i--) {
+                array[position(i + m)] = array[position(i)];
+            }
+            for (int i = 0; i < m; i++) {
+                array[position(i)] = null;
+            }
+            head = position(m);
+        } else {
+            for (int i = index + m; i < size; i++) {
+                array[position(i - m)] = array[position(i)];
+            }
+            for (int i = size - m; i < size; i++) {
+                array[position(i)] = null;
+            }
+        }
+        size -= m;
+        if (size == 0) head = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de esta lista.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size);
+
+        return array[position(index)];
+    }
+
+    @Override
+    public E set(int index, E e) throws IndexOutOfBoundsException {
+        E previous;
+        int p;
+
+        checkIndex(index, size);
+
+        p = position(index);
+        previous = array[p];
+        array[p] = e;
+
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        checkIndex(index, size + 1);
+
+        ensureCapacity(size + 1);
+        openGap(index, 1);
+        array[position(index)] = e;
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        E e;
+
+        checkIndex(index, size);
+
+        e = array[position(index)];
+        closeGap(index, 1);
+
+        return e;
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        ArrayList<E> elems;
+        int m;
+
+        checkIndex(index, size + 1);
+
+        elems = new ArrayList<>();
+        elems.addAll(0, c);
+        m = elems.size();
+
+        ensureCapacity(size + m);
+        openGap(index, m);
+        for (int i = 0; i < m; i++) {
+            array[position(index + i)] = elems.array[i];
+        }
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+
+        closeGap(from, to - from);
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            array[position(i)] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new CircularArrayListIterator();
+    }
+
+    /**
+     * Clase que implementa el Iterador de la clase CircularArrayList.
+     */
+    protected class CircularArrayListIterator implements Iterator<E> {
+
+        /**
+         * Índice del valor next a devolver.
+         */
+        protected int next;
+
+        /**
+         * Bandera que dice si se puede borrar un elemento o no.
+         */
+        protected boolean canRemove;
+
+        /**
+         * Inicializa el iterador al inicio de la lista.
+         */
+        public CircularArrayListIterator() {
+            next = 0;
+            canRemove = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public E next() {
+            E e;
+
+            if (!hasNext()) throw new NoSuchElementException();
+
+            e = array[position(next++)];
+            canRemove = true;
+
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException();
+
+            CircularArrayList.this.remove(--next);
+            canRemove = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb;
+
+        if (isEmpty()) return "[]";
+
+        sb = new StringBuilder();
+
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(array[position(i)]);
+            if (i < size - 1) sb.append(" ");
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
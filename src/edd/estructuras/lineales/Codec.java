@@ -0,0 +1,153 @@
+package edd.estructuras.lineales;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codificador de elementos de ancho fijo. Las listas que guardan sus
+ * elementos en bytes usan un codificador para escribir y leer cada elemento
+ * en una posición absoluta de un ByteBuffer.
+ *
+ * @author mindahrelfen
+ */
+public interface Codec<E> {
+
+    /**
+     * Codificador de enteros de 4 bytes, no acepta null.
+     */
+    public static final Codec<Integer> INT = new Codec<Integer>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer e) {
+            buffer.putInt(offset, e);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Codificador de enteros de 8 bytes, no acepta null.
+     */
+    public static final Codec<Long> LONG = new Codec<Long>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long e) {
+            buffer.putLong(offset, e);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Codificador de reales de 8 bytes, no acepta null.
+     */
+    public static final Codec<Double> DOUBLE = new Codec<Double>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double e) {
+            buffer.putDouble(offset, e);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Devuelve la cantidad de bytes que ocupa cada elemento.
+     *
+     * @return El ancho de un elemento en bytes, mayor a cero.
+     */
+    public int width();
+
+    /**
+     * Escribe el elemento dado a partir de la posición offset del buffer.
+     * Si el elemento no puede codificarse en width() bytes lanza una excepcion
+     * IllegalArgumentException.
+     *
+     * @param buffer Buffer destino.
+     * @param offset Posición absoluta del primer byte.
+     * @param e Elemento a escribir.
+     */
+    public void write(ByteBuffer buffer, int offset, E e) throws IllegalArgumentException;
+
+    /**
+     * Lee el elemento que empieza en la posición offset del buffer.
+     *
+     * @param buffer Buffer origen.
+     * @param offset Posición absoluta del primer byte.
+     *
+     * @return El elemento leído.
+     */
+    public E read(ByteBuffer buffer, int offset);
+
+    /**
+     * Construye un codificador de cadenas en UTF-8 de a lo más maxBytes
+     * bytes. Cada cadena ocupa 4 bytes para su longitud más maxBytes, acepta
+     * null.
+     *
+     * @param maxBytes Cantidad máxima de bytes de una cadena codificada.
+     *
+     * @return Un codificador de cadenas.
+     */
+    public static Codec<String> string(int maxBytes) {
+        if (maxBytes < 0) throw new IllegalArgumentException("Longitud ilegal: " + maxBytes);
+
+        return new Codec<String>() {
+            @Override
+            public int width() {
+                return Integer.BYTES + maxBytes;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, String e) {
+                byte[] bytes;
+
+                if (e == null) {
+                    buffer.putInt(offset, -1);
+                    return;
+                }
+
+                bytes = e.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > maxBytes) {
+                    throw new IllegalArgumentException("Cadena mayor a " + maxBytes + " bytes");
+                }
+                buffer.putInt(offset, bytes.length);
+                buffer.put(offset + Integer.BYTES, bytes);
+            }
+
+            @Override
+            public String read(ByteBuffer buffer, int offset) {
+                byte[] bytes;
+                int length;
+
+                length = buffer.getInt(offset);
+                if (length < 0) return null;
+
+                bytes = new byte[length];
+                buffer.get(offset + Integer.BYTES, bytes);
+
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,339 @@
+package edd.estructuras.lineales;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Implementación de una lista segura para varios hilos que protege un
+ * ArrayList con un StampedLock. Las escrituras toman el candado de
+ * escritura. get, size y el iterador leen de forma optimista, sin escribir
+ * en memoria compartida, y solo si una escritura ocurrió mientras leían
+ * repiten la lectura con el candado de lectura. Así muchos lectores no se
+ * estorban entre sí y, a diferencia de CopyOnWriteArrayList, escribir no
+ * copia el arreglo.
+ *
+ * El iterador es débilmente consistente: lee la lista por bloques y cada
+ * bloque es una lectura consistente, pero puede ver escrituras hechas entre
+ * un bloque y otro.
+ *
+ * @author mindahrelfen
+ */
+public class ConcurrentArrayList<E> implements List<E> {
+
+    /**
+     * Cantidad de elementos que el iterador lee en cada lectura optimista.
+     */
+    public static final int BATCH = 64;
+
+    /**
+     * Lista protegida por el candado.
+     */
+    protected final ArrayList<E> list;
+
+    /**
+     * Candado que protege a list.
+     */
+    protected final StampedLock lock = new StampedLock();
+
+    /**
+     * Construye una lista vacía.
+     */
+    public ConcurrentArrayList() {
+        this(ArrayList.CAPACITY);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     */
+    public ConcurrentArrayList(int capacity) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial y política de
+     * crecimiento.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     * @param policy Política de crecimiento del arreglo.
+     */
+    public ConcurrentArrayList(int capacity, GrowthPolicy policy) {
+        list = new ArrayList<>(capacity, policy);
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                size = list.size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        long stamp = lock.tryOptimisticRead();
+        E[] a = list.array;
+        int size = list.size;
+        // Sin validar, a y size pueden no corresponder entre sí.
+        E e = index >= 0 && index < size && index < a.length ? a[index] : null;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                return list.get(index);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        list.checkIndex(index, size);
+
+        return e;
+    }
+
+    @Override
+    public E set(int index, E e) throws IndexOutOfBoundsException {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.set(index, e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        long stamp = lock.writeLock();
+
+        try {
+            list.add(index, e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.remove(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        ArrayList<E> elems;
+        long stamp;
+
+        // El candado no es reentrante, los elementos se copian antes de
+        // tomarlo por si c es esta misma lista.
+        elems = new ArrayList<>();
+        elems.addAll(0, c);
+
+        stamp = lock.writeLock();
+        try {
+            list.addAll(index, elems);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        long stamp = lock.writeLock();
+
+        try {
+            list.removeRange(from, to);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+
+        try {
+            list.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        long stamp = lock.writeLock();
+
+        try {
+            list.sort(c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        long stamp = lock.readLock();
+
+        try {
+            return list.indexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Copia a buffer los elementos a partir de index, a lo más buffer.length,
+     * con una lectura optimista o con el candado de lectura si la optimista
+     * falla.
+     *
+     * @param index Índice del primer elemento a copiar.
+     * @param buffer Arreglo destino.
+     *
+     * @return Cantidad de elementos copiados, cero si index ya no es menor
+     * que el tamaño.
+     */
+    protected int read(int index, Object[] buffer) {
+        long stamp = lock.tryOptimisticRead();
+        E[] a = list.array;
+        int n = Math.max(0, Math.min(Math.min(list.size, a.length) - index, buffer.length));
+
+        if (n > 0) System.arraycopy(a, index, buffer, 0, n);
+        if (lock.validate(stamp)) return n;
+
+        stamp = lock.readLock();
+        try {
+            n = Math.max(0, Math.min(list.size - index, buffer.length));
+            if (n > 0) System.arraycopy(list.array, index, buffer, 0, n);
+            return n;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentArrayListIterator();
+    }
+
+    /**
+     * Como el iterador es débilmente consistente, el spliterator es
+     * CONCURRENT y no promete un tamaño: otros hilos pueden cambiarlo
+     * mientras se recorre.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * Clase que implementa el Iterador de la clase ConcurrentArrayList. Lee
+     * la lista por bloques de {@value #BATCH} elementos.
+     */
+    protected class ConcurrentArrayListIterator implements Iterator<E> {
+
+        /**
+         * Bloque de elementos leído.
+         */
+        protected final Object[] buffer = new Object[BATCH];
+
+        /**
+         * Índice en la lista del primer elemento del bloque.
+         */
+        protected int base;
+
+        /**
+         * Cantidad de elementos válidos en el bloque.
+         */
+        protected int count;
+
+        /**
+         * Posición dentro del bloque del valor next a devolver.
+         */
+        protected int position;
+
+        /**
+         * Bandera que dice si se puede borrar un elemento o no.
+         */
+        protected boolean canRemove;
+
+        /**
+         * Crea un iterador que apunta al primer elemento.
+         */
+        public ConcurrentArrayListIterator() {
+            base = 0;
+            count = 0;
+            position = 0;
+            canRemove = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < count) return true;
+
+            base += count;
+            position = 0;
+            count = read(base, buffer);
+
+            return count > 0;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            canRemove = true;
+
+            return (E) buffer[position++];
+        }
+
+        /**
+         * Borra el elemento en el índice del último valor devuelto. Si otro
+         * hilo cambió la lista desde entonces puede borrar otro elemento.
+         */
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException();
+
+            ConcurrentArrayList.this.remove(base + position - 1);
+            // El resto del bloque se vuelve a leer desde el índice borrado.
+            base += position - 1;
+            count = 0;
+            position = 0;
+            canRemove = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        long stamp = lock.readLock();
+
+        try {
+            return list.toString();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
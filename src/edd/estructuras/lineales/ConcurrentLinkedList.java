@@ -0,0 +1,721 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementación de una lista ligada segura para varios hilos que no usa
+ * candados, al estilo de Harris y Michael. Como LinkedList tiene nodos
+ * centinelas head y tail, pero los nodos solo se ligan hacia adelante y cada
+ * referencia next lleva una marca que se cambia con compareAndSet.
+ *
+ * Borrar un nodo tiene dos pasos: primero se marca su referencia next, lo
+ * que lo borra de forma lógica y congela esa referencia, y después se intenta
+ * desligarlo de su anterior. Si el segundo paso falla, cualquier recorrido
+ * posterior que encuentre el nodo marcado lo termina de desligar. Como un
+ * nodo marcado ya no acepta cambios en su next, insertar después de él falla
+ * y se reintenta.
+ *
+ * Los recorridos y el iterador son débilmente consistentes: nunca fallan por
+ * escrituras concurrentes, pero pueden o no ver los cambios hechos mientras
+ * recorren. Las operaciones por índice cuestan O(n), agregar al final es
+ * O(1) amortizado gracias a una pista del último nodo.
+ *
+ * Las operaciones en bloque removeRange, clear y sort recorren los nodos una
+ * sola vez, pero no son atómicas: otros hilos pueden ver su efecto a medias.
+ *
+ * @author mindahrelfen
+ */
+public class ConcurrentLinkedList<E> implements List<E> {
+
+    /**
+     * Nodo centinela del inicio.
+     */
+    protected final Node<E> head;
+
+    /**
+     * Nodo centinela del final, su next siempre es null.
+     */
+    protected final Node<E> tail;
+
+    /**
+     * Pista del último nodo, puede estar atrasada o borrada.
+     */
+    protected volatile Node<E> last;
+
+    /**
+     * Cantidad de elementos, cada hilo suma en su propia celda.
+     */
+    protected final LongAdder count = new LongAdder();
+
+    /**
+     * Construye una lista vacía.
+     */
+    public ConcurrentLinkedList() {
+        tail = new Node<E>(null, null);
+        head = new Node<E>(null, tail);
+        last = head;
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de esta lista.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    /**
+     * Busca el nodo en el índice dado y su anterior, desligando los nodos
+     * marcados que encuentre. Si index es igual al tamaño, el nodo es tail.
+     *
+     * @param index Índice no negativo a buscar.
+     *
+     * @return Window La pareja de nodos.
+     */
+    protected Window<E> locate(int index) throws IndexOutOfBoundsException {
+        boolean[] marked = new boolean[1];
+        Node<E> pred, curr, succ;
+        int i;
+
+        retry:
+        while (true) {
+            pred = head;
+            curr = pred.next.getReference();
+            i = 0;
+            while (true) {
+                if (curr == tail) {
+                    if (i == index) return new Window<>(pred, curr);
+                    throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+                }
+                succ = curr.next.get(marked);
+                if (marked[0]) {
+                    // Si pred también se borró, se reinicia desde head.
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) continue retry;
+                    curr = succ;
+                    continue;
+                }
+                if (i == index) return new Window<>(pred, curr);
+                pred = curr;
+                curr = succ;
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Busca el nodo anterior a tail a partir de la pista last, desligando los
+     * nodos marcados que encuentre.
+     *
+     * @return Node El último nodo de la lista, o head si está vacía.
+     */
+    protected Node<E> findLast() {
+        boolean[] marked = new boolean[1];
+        Node<E> pred, curr, succ;
+
+        retry:
+        while (true) {
+            pred = last;
+            // Un nodo borrado siempre está marcado, si la pista no lo está
+            // sigue en la lista.
+            if (pred.next.isMarked()) pred = head;
+            curr = pred.next.getReference();
+            while (curr != tail) {
+                succ = curr.next.get(marked);
+                if (marked[0]) {
+                    if (!pred.next.compareAndSet(curr, succ, false, false)) continue retry;
+                } else {
+                    pred = curr;
+                }
+                curr = succ;
+            }
+            return pred;
+        }
+    }
+
+    /**
+     * Marca el nodo dado como borrado e intenta desligarlo de su anterior.
+     *
+     * @param pred Node Anterior conocido del nodo.
+     * @param node Node Nodo a borrar.
+     *
+     * @return boolean true si este hilo lo marcó, false si ya estaba marcado.
+     */
+    protected boolean delete(Node<E> pred, Node<E> node) {
+        boolean[] marked = new boolean[1];
+        Node<E> succ;
+
+        do {
+            succ = node.next.get(marked);
+            if (marked[0]) return false;
+        } while (!node.next.compareAndSet(succ, succ, false, true));
+
+        count.decrement();
+        // Si falla, otro recorrido lo desligará.
+        pred.next.compareAndSet(node, succ, false, false);
+
+        return true;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista.
+     *
+     * @param e Elemento a agregar.
+     */
+    public void addLast(E e) {
+        Node<E> node = new Node<>(e, tail);
+        Node<E> pred;
+
+        do {
+            pred = findLast();
+        } while (!pred.next.compareAndSet(tail, node, false, false));
+
+        count.increment();
+        last = node;
+    }
+
+    /**
+     * Borra y devuelve el primer elemento de la lista.
+     *
+     * @return E El elemento borrado, o null si la lista está vacía.
+     */
+    public E pollFirst() {
+        Window<E> w;
+
+        while (true) {
+            w = locate(0);
+            if (w.curr == tail) return null;
+            if (delete(w.pred, w.curr)) return w.curr.elem;
+        }
+    }
+
+    @Override
+    public int size() {
+        return (int) count.sum();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Node<E> curr = head.next.getReference();
+
+        while (curr != tail) {
+            if (!curr.next.isMarked()) return false;
+            curr = curr.next.getReference();
+        }
+
+        return true;
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        Node<E> curr;
+        int i = 0;
+
+        checkIndex(index, Integer.MAX_VALUE);
+
+        // Solo lectura, los nodos marcados se saltan sin desligarlos.
+        for (curr = head.next.getReference(); curr != tail; curr = curr.next.getReference()) {
+            if (curr.next.isMarked()) continue;
+            if (i++ == index) return curr.elem;
+        }
+
+        throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+    }
+
+    @Override
+    public E set(int index, E e) throws IndexOutOfBoundsException {
+        Window<E> w;
+        E previous;
+
+        checkIndex(index, Integer.MAX_VALUE);
+
+        w = locate(index);
+        if (w.curr == tail) throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        previous = w.curr.elem;
+        w.curr.elem = e;
+
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        Node<E> node = new Node<>(e, null);
+        Window<E> w;
+
+        checkIndex(index, Integer.MAX_VALUE);
+
+        do {
+            w = locate(index);
+            node.next.set(w.curr, false);
+        } while (!w.pred.next.compareAndSet(w.curr, node, false, false));
+
+        count.increment();
+        if (w.curr == tail) last = node;
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        Window<E> w;
+
+        checkIndex(index, Integer.MAX_VALUE);
+
+        while (true) {
+            w = locate(index);
+            if (w.curr == tail) throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+            if (delete(w.pred, w.curr)) return w.curr.elem;
+        }
+    }
+
+    /**
+     * Arma una cadena con los elementos y la empalma con un solo
+     * compareAndSet, así otros hilos ven todos los elementos o ninguno.
+     */
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        ArrayList<E> elems = new ArrayList<>();
+        Node<E> first, end;
+        Window<E> w;
+
+        checkIndex(index, Integer.MAX_VALUE);
+
+        elems.addAll(0, c);
+        if (elems.isEmpty()) {
+            locate(index);
+            return;
+        }
+
+        end = new Node<>(elems.get(elems.size() - 1), null);
+        first = end;
+        for (int i = elems.size() - 2; i >= 0; i--) {
+            first = new Node<>(elems.get(i), first);
+        }
+
+        do {
+            w = locate(index);
+            end.next.set(w.curr, false);
+        } while (!w.pred.next.compareAndSet(w.curr, first, false, false));
+
+        count.add(elems.size());
+        if (w.curr == tail) last = end;
+    }
+
+    /**
+     * Borra en O(n) los nodos del rango recorriéndolos una sola vez. Cada
+     * nodo se borra con delete, así un elemento nunca se borra dos veces y la
+     * lista nunca queda rota, pero la operación no es atómica: otros hilos
+     * pueden ver el rango a medio borrar. Los nodos que otro hilo borre
+     * mientras tanto no cuentan, y si la lista se acorta antes de borrar
+     * to - from nodos el recorrido termina en tail.
+     */
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        Window<E> w;
+        Node<E> curr;
+        int n;
+
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+        if (from == to) return;
+
+        w = locate(from);
+        curr = w.curr;
+        n = to - from;
+        while (n > 0 && curr != tail) {
+            // Tras marcarlo su next ya no cambia, se puede seguir desde él.
+            if (delete(w.pred, curr)) n--;
+            curr = curr.next.getReference();
+        }
+    }
+
+    /**
+     * Borra en O(n) todos los nodos que encuentra hasta tail. Igual que
+     * removeRange no es atómica: un elemento agregado por otro hilo mientras
+     * tanto puede quedar o no en la lista.
+     */
+    @Override
+    public void clear() {
+        Node<E> curr = head.next.getReference();
+
+        while (curr != tail) {
+            delete(head, curr);
+            curr = curr.next.getReference();
+        }
+    }
+
+    /**
+     * Toma una foto de los nodos sin marcar, ordena una copia de sus
+     * elementos y la escribe de vuelta en esos mismos nodos, en O(n log n).
+     * Si el comparador lanza una excepción la lista no cambia.
+     *
+     * No es atómica: otros hilos pueden ver la lista a medio escribir. Si
+     * otro hilo inserta mientras tanto, su nodo queda fuera del orden, y si
+     * borra un nodo de la foto, se pierde el elemento que se escribió en él.
+     * Para un resultado exacto no debe haber escritores concurrentes.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        ArrayList<Node<E>> nodes = new ArrayList<>();
+        Node<E> curr;
+        E[] a;
+
+        for (curr = head.next.getReference(); curr != tail; curr = curr.next.getReference()) {
+            if (!curr.next.isMarked()) nodes.add(nodes.size(), curr);
+        }
+
+        a = (E[]) new Object[nodes.size()];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = nodes.get(i).elem;
+        }
+        Arrays.sort(a, c);
+
+        for (int i = 0; i < a.length; i++) {
+            nodes.get(i).elem = a[i];
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentLinkedListIterator();
+    }
+
+    /**
+     * Como el iterador es débilmente consistente, el spliterator es
+     * CONCURRENT y no promete un tamaño: otros hilos pueden cambiarlo
+     * mientras se recorre.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, Integer.MAX_VALUE);
+
+        return new ConcurrentLinkedListListIterator(index);
+    }
+
+    /**
+     * Nodo ligado hacia adelante cuya referencia next lleva la marca de
+     * borrado. Es una clase estática para no guardar una referencia a la
+     * lista en cada nodo.
+     */
+    protected static class Node<E> {
+
+        /**
+         * Referencia al valor que este nodo guarda.
+         */
+        protected volatile E elem;
+
+        /**
+         * Referencia al nodo siguiente y marca de borrado de este nodo.
+         */
+        protected final AtomicMarkableReference<Node<E>> next;
+
+        /*
+         * Constructor de un nodo que almacena:
+         * Un elemento de tipo genérico
+         * Una referencia al siguiente nodo, sin marcar
+         */
+        public Node(E elem, Node<E> next) {
+            this.elem = elem;
+            this.next = new AtomicMarkableReference<>(next, false);
+        }
+
+        @Override
+        public String toString() {
+            return "<" + elem + ">";
+        }
+    }
+
+    /**
+     * Pareja de nodos consecutivos devuelta por locate.
+     */
+    protected static class Window<E> {
+
+        /**
+         * Nodo anterior.
+         */
+        protected final Node<E> pred;
+
+        /**
+         * Nodo buscado.
+         */
+        protected final Node<E> curr;
+
+        public Window(Node<E> pred, Node<E> curr) {
+            this.pred = pred;
+            this.curr = curr;
+        }
+    }
+
+    /**
+     * Clase que implementa el Iterador de la clase ConcurrentLinkedList. Se
+     * salta los nodos marcados y nunca lanza excepciones por escrituras
+     * concurrentes.
+     */
+    protected class ConcurrentLinkedListIterator implements Iterator<E> {
+
+        /**
+         * Nodo anterior al último valor devuelto.
+         */
+        protected Node<E> previous;
+
+        /**
+         * Nodo del último valor devuelto, null si no se puede borrar.
+         */
+        protected Node<E> lastReturned;
+
+        /**
+         * Nodo que contiene el valor resultante de invocar next.
+         */
+        protected Node<E> siguiente;
+
+        /**
+         * Crea un iterador que apunta al primer elemento.
+         */
+        public ConcurrentLinkedListIterator() {
+            previous = head;
+            lastReturned = null;
+            siguiente = skip(head);
+        }
+
+        /**
+         * Devuelve el primer nodo sin marcar después del nodo dado.
+         *
+         * @param node Nodo desde donde se busca.
+         *
+         * @return El nodo encontrado o tail.
+         */
+        protected Node<E> skip(Node<E> node) {
+            Node<E> n = node.next.getReference();
+
+            while (n != tail && n.next.isMarked()) {
+                n = n.next.getReference();
+            }
+
+            return n;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return siguiente != tail;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            if (lastReturned != null) previous = lastReturned;
+            lastReturned = siguiente;
+            siguiente = skip(siguiente);
+
+            return lastReturned.elem;
+        }
+
+        /**
+         * Borra el último valor devuelto.
+         *
+         * @throws IllegalStateException Si no se ha llamado a next o si otro
+         * hilo ya borró el elemento.
+         */
+        @Override
+        public void remove() {
+            Node<E> node = lastReturned;
+
+            if (node == null) throw new IllegalStateException();
+
+            lastReturned = null;
+            if (!delete(previous, node)) {
+                throw new IllegalStateException("El elemento ya fue borrado");
+            }
+        }
+    }
+
+    /**
+     * Clase que implementa el iterador bidireccional de la clase
+     * ConcurrentLinkedList. Avanzar, insertar, modificar y borrar cuestan
+     * O(1) sobre los nodos, pero como los nodos solo se ligan hacia adelante
+     * previous busca el anterior desde head en O(n).
+     *
+     * Igual que el iterador es débilmente consistente: si otro hilo borra el
+     * nodo del cursor, add y previous se reubican por índice con locate, y
+     * previous lanza NoSuchElementException si la lista se acortó.
+     */
+    protected class ConcurrentLinkedListListIterator extends ConcurrentLinkedListIterator implements ListIterator<E> {
+
+        /**
+         * Último nodo antes del cursor, head si el cursor está al inicio.
+         */
+        protected Node<E> cursor;
+
+        /**
+         * Índice del elemento que devolvería next.
+         */
+        protected int index;
+
+        /**
+         * Crea un iterador que apunta al elemento en index.
+         *
+         * @param index Índice del primer elemento a devolver.
+         */
+        public ConcurrentLinkedListListIterator(int index) {
+            reposition(index);
+        }
+
+        /**
+         * Coloca el cursor antes del elemento en la posición dada, o al final
+         * si otro hilo acortó la lista.
+         *
+         * @param position Índice del elemento que devolvería next.
+         */
+        protected void reposition(int position) {
+            Window<E> w;
+
+            try {
+                w = locate(position);
+                cursor = w.pred;
+                siguiente = w.curr;
+                index = position;
+            } catch (IndexOutOfBoundsException e) {
+                cursor = findLast();
+                siguiente = tail;
+                index = size();
+            }
+            previous = cursor;
+            lastReturned = null;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            previous = cursor;
+            lastReturned = siguiente;
+            cursor = siguiente;
+            siguiente = skip(cursor);
+            index++;
+
+            return lastReturned.elem;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor != head;
+        }
+
+        @Override
+        public E previous() {
+            Window<E> w;
+
+            if (!hasPrevious()) throw new NoSuchElementException();
+
+            try {
+                w = locate(index - 1);
+            } catch (IndexOutOfBoundsException e) {
+                throw new NoSuchElementException();
+            }
+            if (w.curr == tail) throw new NoSuchElementException();
+
+            previous = w.pred;
+            lastReturned = w.curr;
+            cursor = w.pred;
+            siguiente = w.curr;
+            index--;
+
+            return lastReturned.elem;
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        /**
+         * Borra el último valor devuelto por next o previous.
+         *
+         * @throws IllegalStateException Si no se ha llamado a next o a
+         * previous después de add o remove, o si otro hilo ya borró el
+         * elemento.
+         */
+        @Override
+        public void remove() {
+            Node<E> node = lastReturned;
+
+            if (node == null) throw new IllegalStateException();
+
+            lastReturned = null;
+            if (node == cursor) {
+                cursor = previous;
+                index--;
+            } else {
+                siguiente = skip(node);
+            }
+            if (!delete(previous, node)) {
+                throw new IllegalStateException("El elemento ya fue borrado");
+            }
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturned == null) throw new IllegalStateException();
+
+            lastReturned.elem = e;
+        }
+
+        @Override
+        public void add(E e) {
+            boolean[] marked = new boolean[1];
+            Node<E> node = new Node<>(e, null);
+            Node<E> succ;
+
+            while (true) {
+                succ = cursor.next.get(marked);
+                if (marked[0]) {
+                    reposition(index);
+                    continue;
+                }
+                node.next.set(succ, false);
+                if (cursor.next.compareAndSet(succ, node, false, false)) break;
+            }
+
+            count.increment();
+            if (succ == tail) last = node;
+            cursor = node;
+            index++;
+            lastReturned = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        Iterator<E> it = iterator();
+
+        sb.append("[");
+        while (it.hasNext()) {
+            sb.append(it.next());
+            if (it.hasNext()) sb.append(" ");
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,286 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Implementación de una lista segura para varios hilos que copia su arreglo
+ * en cada escritura. Los lectores leen el arreglo publicado sin bloquearse y
+ * los iteradores recorren la copia que existía al crearlos, que nunca
+ * cambia. Los escritores se turnan con un candado, copian el arreglo, lo
+ * modifican y publican la copia en un campo volatile.
+ *
+ * Conviene cuando las lecturas son mucho más frecuentes que las escrituras,
+ * pues cada escritura cuesta O(n).
+ *
+ * @author mindahrelfen
+ */
+public class CopyOnWriteArrayList<E> implements List<E> {
+
+    /**
+     * Arreglo publicado, nunca se modifica después de asignarse. Su longitud
+     * es el tamaño de la lista.
+     */
+    protected volatile Object[] array;
+
+    /**
+     * Candado que turna a los escritores.
+     */
+    protected final Object lock = new Object();
+
+    /**
+     * Construye una lista vacía.
+     */
+    public CopyOnWriteArrayList() {
+        array = new Object[0];
+    }
+
+    /**
+     * Construye una lista con los elementos del iterable dado.
+     *
+     * @param c Elementos iniciales.
+     */
+    public CopyOnWriteArrayList(Iterable<? extends E> c) {
+        this();
+        addAll(0, c);
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de esta lista.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        Object[] a = array;
+
+        checkIndex(index, a.length);
+
+        return (E) a[index];
+    }
+
+    @Override
+    public E set(int index, E e) throws IndexOutOfBoundsException {
+        Object[] a, aux;
+        E previous;
+
+        synchronized (lock) {
+            a = array;
+            checkIndex(index, a.length);
+
+            previous = (E) a[index];
+            aux = a.clone();
+            aux[index] = e;
+            array = aux;
+        }
+
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        Object[] a, aux;
+
+        synchronized (lock) {
+            a = array;
+            checkIndex(index, a.length + 1);
+
+            aux = new Object[a.length + 1];
+            System.arraycopy(a, 0, aux, 0, index);
+            aux[index] = e;
+            System.arraycopy(a, index, aux, index + 1, a.length - index);
+            array = aux;
+        }
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        Object[] a, aux;
+
+        synchronized (lock) {
+            a = array;
+            checkIndex(index, a.length);
+
+            aux = new Object[a.length - 1];
+            System.arraycopy(a, 0, aux, 0, index);
+            System.arraycopy(a, index + 1, aux, index, a.length - index - 1);
+            array = aux;
+        }
+
+        return (E) a[index];
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        ArrayList<E> elems;
+        Object[] a, aux;
+        int m;
+
+        // Se copian los elementos antes de tomar el candado, así agregar la
+        // lista a sí misma usa la copia y no se recorre c con el candado.
+        elems = new ArrayList<>();
+        elems.addAll(0, c);
+        m = elems.size();
+
+        synchronized (lock) {
+            a = array;
+            checkIndex(index, a.length + 1);
+            if (m == 0) return;
+
+            aux = new Object[a.length + m];
+            System.arraycopy(a, 0, aux, 0, index);
+            System.arraycopy(elems.array, 0, aux, index, m);
+            System.arraycopy(a, index, aux, index + m, a.length - index);
+            array = aux;
+        }
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        Object[] a, aux;
+
+        synchronized (lock) {
+            a = array;
+            if (from < 0 || to > a.length || from > to) {
+                throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+            }
+            if (from == to) return;
+
+            aux = new Object[a.length - (to - from)];
+            System.arraycopy(a, 0, aux, 0, from);
+            System.arraycopy(a, to, aux, from, a.length - to);
+            array = aux;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            array = new Object[0];
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        Object[] aux;
+
+        synchronized (lock) {
+            aux = array.clone();
+            Arrays.sort(aux, (Comparator) c);
+            array = aux;
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        Object[] a = array;
+
+        for (int i = 0; i < a.length; i++) {
+            if (Objects.equals(o, a[i])) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Devuelve un iterador sobre la copia actual del arreglo. No ve las
+     * escrituras posteriores y no permite borrar.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new CopyOnWriteArrayListIterator(array);
+    }
+
+    /**
+     * Devuelve un spliterator sobre la copia actual del arreglo, que además
+     * de ORDERED, SIZED y SUBSIZED es IMMUTABLE.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Clase que implementa el Iterador de la clase CopyOnWriteArrayList.
+     */
+    protected class CopyOnWriteArrayListIterator implements Iterator<E> {
+
+        /**
+         * Copia del arreglo que recorre el iterador.
+         */
+        protected final Object[] snapshot;
+
+        /**
+         * Índice del valor next a devolver.
+         */
+        protected int next;
+
+        /**
+         * Crea un iterador que apunta al primer elemento de la copia.
+         *
+         * @param snapshot Arreglo publicado al crear el iterador.
+         */
+        public CopyOnWriteArrayListIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+            next = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            return (E) snapshot[next++];
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("El iterador recorre una copia, borre con remove(int)");
+        }
+    }
+
+    @Override
+    public String toString() {
+        Object[] a = array;
+        StringBuilder sb;
+
+        if (a.length == 0) return "[]";
+
+        sb = new StringBuilder();
+
+        sb.append("[");
+        for (int i = 0; i < a.length; i++) {
+            sb.append(a[i]);
+            if (i < a.length - 1) sb.append(" ");
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
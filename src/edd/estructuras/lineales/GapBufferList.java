@@ -0,0 +1,297 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementación de una lista con buffer de hueco. Los elementos se guardan
+ * en un arreglo con un hueco de posiciones libres que se mueve al índice
+ * donde se edita, así insertar o borrar cerca de la última edición solo
+ * mueve los elementos entre ambas posiciones y get(int) sigue siendo O(1).
+ *
+ * @author mindahrelfen
+ */
+public class GapBufferList<E> implements List<E> {
+
+    /**
+     * Arreglo donde se guardan los valores que esta lista contiene. Las
+     * posiciones [gapStart, gapEnd) forman el hueco y siempre son null.
+     */
+    protected E[] array;
+
+    /**
+     * Primera posición del hueco, es también el índice del cursor.
+     */
+    protected int gapStart;
+
+    /**
+     * Posición siguiente a la última del hueco.
+     */
+    protected int gapEnd;
+
+    /**
+     * Política con la que crece el arreglo cuando el hueco se agota.
+     */
+    protected GrowthPolicy policy;
+
+    /**
+     * Construye una lista vacía.
+     */
+    public GapBufferList() {
+        this(ArrayList.CAPACITY);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     */
+    public GapBufferList(int capacity) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial y política de
+     * crecimiento.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     * @param policy Política de crecimiento del arreglo.
+     */
+    public GapBufferList(int capacity, GrowthPolicy policy) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacidad ilegal: " + capacity);
+        if (policy == null) throw new IllegalArgumentException("Politica nula");
+
+        array = (E[]) new Object[capacity];
+        gapStart = 0;
+        gapEnd = capacity;
+        this.policy = policy;
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de esta lista.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    /**
+     * Traduce un índice de la lista a una posición del arreglo.
+     *
+     * @param index Índice válido de la lista.
+     *
+     * @return La posición del elemento en el arreglo.
+     */
+    protected int position(int index) {
+        return index < gapStart ? index : index + gapEnd - gapStart;
+    }
+
+    /**
+     * Mueve el hueco para que empiece en el índice dado, corriendo solo los
+     * elementos que quedan entre la posición actual y la nueva.
+     *
+     * @param index Nuevo inicio del hueco, entre 0 y size().
+     */
+    protected void moveGap(int index) {
+        int count;
+
+        if (index < gapStart) {
+            count = gapStart - index;
+            System.arraycopy(array, index, array, gapEnd - count, count);
+            Arrays.fill(array, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            count = index - gapStart;
+            System.arraycopy(array, gapEnd, array, gapStart, count);
+            Arrays.fill(array, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Asegura que el hueco tenga al menos n posiciones libres.
+     *
+     * @param n Cantidad de posiciones libres requeridas.
+     */
+    protected void ensureGap(int n) {
+        E[] aux;
+        int tail, capacity;
+
+        if (gapEnd - gapStart >= n) return;
+
+        tail = array.length - gapEnd;
+        capacity = policy.newCapacity(array.length, size() + n);
+        aux = (E[]) new Object[capacity];
+        System.arraycopy(array, 0, aux, 0, gapStart);
+        System.arraycopy(array, gapEnd, aux, capacity - tail, tail);
+        array = aux;
+        gapEnd = capacity - tail;
+    }
+
+    @Override
+    public int size() {
+        return array.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size());
+
+        return array[position(index)];
+    }
+
+    @Override
+    public E set(int index, E e) throws IndexOutOfBoundsException {
+        E previous;
+        int p;
+
+        checkIndex(index, size());
+
+        p = position(index);
+        previous = array[p];
+        array[p] = e;
+
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        checkIndex(index, size() + 1);
+
+        ensureGap(1);
+        moveGap(index);
+        array[gapStart++] = e;
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        E e;
+
+        checkIndex(index, size());
+
+        moveGap(index);
+        e = array[gapEnd];
+        array[gapEnd++] = null;
+
+        return e;
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        ArrayList<E> elems;
+        int m;
+
+        checkIndex(index, size() + 1);
+
+        elems = new ArrayList<>();
+        elems.addAll(0, c);
+        m = elems.size();
+
+        ensureGap(m);
+        moveGap(index);
+        System.arraycopy(elems.array, 0, array, gapStart, m);
+        gapStart += m;
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+
+        moveGap(from);
+        Arrays.fill(array, gapEnd, gapEnd + to - from, null);
+        gapEnd += to - from;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(array, null);
+        gapStart = 0;
+        gapEnd = array.length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new GapBufferListIterator();
+    }
+
+    /**
+     * Clase que implementa el Iterador de la clase GapBufferList.
+     */
+    protected class GapBufferListIterator implements Iterator<E> {
+
+        /**
+         * Índice del valor next a devolver.
+         */
+        protected int next;
+
+        /**
+         * Bandera que dice si se puede borrar un elemento o no.
+         */
+        protected boolean canRemove;
+
+        /**
+         * Inicializa el iterador al inicio de la lista.
+         */
+        public GapBufferListIterator() {
+            next = 0;
+            canRemove = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < size();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            canRemove = true;
+
+            return array[position(next++)];
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException();
+
+            // El hueco sigue al iterador, así que borrar al recorrer es O(1).
+            GapBufferList.this.remove(--next);
+            canRemove = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb;
+        int size;
+
+        if (isEmpty()) return "[]";
+
+        sb = new StringBuilder();
+        size = size();
+
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(array[position(i)]);
+            if (i < size - 1) sb.append(" ");
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package edd.estructuras.lineales;
+
+/**
+ * Estrategia de crecimiento para las listas respaldadas por un arreglo.
+ *
+ * @author mindahrelfen
+ */
+public interface GrowthPolicy {
+
+    /**
+     * Capacidad máxima que puede pedirse para un arreglo.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Política por defecto, duplica la capacidad actual.
+     */
+    public static final GrowthPolicy DEFAULT = new StandardGrowthPolicy(2.0, 0, MAX_CAPACITY);
+
+    /**
+     * Calcula la nueva capacidad de un arreglo que debe crecer.
+     * Si la capacidad requerida no puede satisfacerse lanza una excepcion
+     * IllegalStateException.
+     *
+     * @param capacity Capacidad actual del arreglo.
+     * @param minCapacity Capacidad mínima requerida, mayor a capacity.
+     *
+     * @return La nueva capacidad, mayor o igual a minCapacity.
+     */
+    public int newCapacity(int capacity, int minCapacity) throws IllegalStateException;
+}
@@ -0,0 +1,295 @@
+package edd.estructuras.lineales;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Objects;
+
+/**
+ * Decorador que agrega a cualquier List un índice hash de cada elemento a la
+ * posición de su primera aparición, así contains e indexOf cuestan O(1).
+ *
+ * El índice se mantiene al agregar o borrar al final y al modificar con set.
+ * Cualquier otro cambio de estructura solo lo marca como inválido, y se
+ * reconstruye en un recorrido la siguiente vez que se consulta. Así una
+ * carga de trabajo que casi solo agrega al final nunca reconstruye.
+ *
+ * @author mindahrelfen
+ */
+public class HashIndexedList<E> implements List<E> {
+
+    /**
+     * Bytes aproximados de una entrada de HashMap con la llave y el Integer
+     * del valor, con referencias comprimidas.
+     */
+    protected static final int ENTRY_BYTES = 32 + 16;
+
+    /**
+     * Bytes de cada posición de la tabla de un HashMap.
+     */
+    protected static final int SLOT_BYTES = 4;
+
+    /**
+     * Lista decorada.
+     */
+    protected final List<E> list;
+
+    /**
+     * Posición de la primera aparición de cada elemento de la lista.
+     */
+    protected HashMap<Object, Integer> index;
+
+    /**
+     * Bandera que dice si el índice corresponde al contenido de la lista.
+     */
+    protected boolean valid;
+
+    /**
+     * Cantidad de veces que se ha reconstruido el índice.
+     */
+    protected long rebuilds;
+
+    /**
+     * Cantidad de elementos recorridos en todas las reconstrucciones.
+     */
+    protected long rebuildCost;
+
+    /**
+     * Construye el decorador sobre la lista dada, que no debe modificarse
+     * directamente después.
+     *
+     * @param list Lista a decorar.
+     */
+    public HashIndexedList(List<E> list) {
+        if (list == null) throw new IllegalArgumentException("Lista nula");
+
+        this.list = list;
+        index = new HashMap<>();
+        // Sobre una lista vacía el índice vacío ya es válido.
+        valid = list.isEmpty();
+    }
+
+    /**
+     * Marca el índice como inválido, se reconstruye en la siguiente
+     * consulta.
+     */
+    protected void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Reconstruye el índice si es inválido.
+     */
+    protected void ensureIndex() {
+        int i = 0;
+
+        if (valid) return;
+
+        index = new HashMap<>(Math.max(16, (int) (list.size() / 0.75f) + 1));
+        for (E e : list) {
+            index.putIfAbsent(e, i++);
+        }
+        valid = true;
+        rebuilds++;
+        rebuildCost += i;
+    }
+
+    /**
+     * Agrega al índice un elemento recién agregado al final.
+     *
+     * @param e Elemento agregado.
+     * @param position Posición del elemento.
+     */
+    protected void indexLast(E e, int position) {
+        if (valid) index.putIfAbsent(e, position);
+    }
+
+    /**
+     * Devuelve cuántas veces se ha reconstruido el índice.
+     *
+     * @return long Cantidad de reconstrucciones.
+     */
+    public long rebuilds() {
+        return rebuilds;
+    }
+
+    /**
+     * Devuelve cuántos elementos se han recorrido al reconstruir el índice.
+     *
+     * @return long Costo total de las reconstrucciones.
+     */
+    public long rebuildCost() {
+        return rebuildCost;
+    }
+
+    /**
+     * Devuelve una estimación de la memoria que ocupa el índice, contando
+     * las entradas, los Integer de las posiciones y la tabla del HashMap.
+     *
+     * @return long Bytes aproximados del índice.
+     */
+    public long indexBytes() {
+        int needed = Math.max(16, (int) (index.size() / 0.75f) + 1);
+        long slots = (long) Integer.highestOneBit(needed - 1) << 1;
+
+        return (long) index.size() * ENTRY_BYTES + slots * SLOT_BYTES;
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        return list.get(index);
+    }
+
+    @Override
+    public E set(int index, E e) throws IndexOutOfBoundsException {
+        E previous = list.set(index, e);
+
+        if (valid) {
+            // Si era la primera aparición, la siguiente solo se encuentra
+            // recorriendo la lista.
+            if (Objects.equals(this.index.get(previous), index)) {
+                invalidate();
+            } else {
+                this.index.merge(e, index, Math::min);
+            }
+        }
+
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        boolean last = index == list.size();
+
+        list.add(index, e);
+        if (last) {
+            indexLast(e, index);
+        } else {
+            invalidate();
+        }
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        boolean last = index == list.size() - 1;
+        E e = list.remove(index);
+
+        if (last && valid) {
+            this.index.remove(e, index);
+        } else {
+            invalidate();
+        }
+
+        return e;
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        ListIterator<E> it;
+        int n = list.size();
+
+        list.addAll(index, c);
+        if (index != n) {
+            invalidate();
+            return;
+        }
+
+        if (!valid) return;
+        it = list.listIterator(n);
+        while (it.hasNext()) {
+            indexLast(it.next(), n++);
+        }
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        list.removeRange(from, to);
+        if (from != to) invalidate();
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+        index.clear();
+        valid = true;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        Integer i;
+
+        ensureIndex();
+        i = index.get(o);
+
+        return i == null ? -1 : i;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        ensureIndex();
+
+        return index.containsKey(o);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        list.sort(c);
+        invalidate();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new HashIndexedListIterator();
+    }
+
+    /**
+     * Iterador que delega en el de la lista decorada e invalida el índice al
+     * borrar.
+     */
+    protected class HashIndexedListIterator implements Iterator<E> {
+
+        /**
+         * Iterador de la lista decorada.
+         */
+        protected final Iterator<E> it;
+
+        /**
+         * Crea un iterador que apunta al primer elemento.
+         */
+        public HashIndexedListIterator() {
+            it = list.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public E next() {
+            return it.next();
+        }
+
+        @Override
+        public void remove() {
+            it.remove();
+            invalidate();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+}
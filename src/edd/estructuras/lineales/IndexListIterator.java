@@ -0,0 +1,106 @@
+package edd.estructuras.lineales;
+
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterador bidireccional que recorre cualquier List por medio de sus
+ * métodos por índice. Es la implementación por defecto de
+ * List.listIterator(int), las listas que no tienen acceso por índice en
+ * O(1) deben ofrecer su propia versión.
+ *
+ * @author mindahrelfen
+ */
+class IndexListIterator<E> implements ListIterator<E> {
+
+    /**
+     * Lista que se recorre.
+     */
+    protected final List<E> list;
+
+    /**
+     * Índice del valor que devuelve next.
+     */
+    protected int next;
+
+    /**
+     * Índice del último valor devuelto por next o previous, -1 si no se puede
+     * borrar ni modificar.
+     */
+    protected int last;
+
+    /**
+     * Crea un iterador que apunta al índice dado.
+     *
+     * @param list Lista a recorrer.
+     * @param index Índice del primer valor que devuelve next.
+     */
+    public IndexListIterator(List<E> list, int index) {
+        if (index < 0 || index > list.size()) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+        this.list = list;
+        this.next = index;
+        this.last = -1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next < list.size();
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) throw new NoSuchElementException();
+
+        last = next++;
+
+        return list.get(last);
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return next > 0;
+    }
+
+    @Override
+    public E previous() {
+        if (!hasPrevious()) throw new NoSuchElementException();
+
+        last = --next;
+
+        return list.get(last);
+    }
+
+    @Override
+    public int nextIndex() {
+        return next;
+    }
+
+    @Override
+    public int previousIndex() {
+        return next - 1;
+    }
+
+    @Override
+    public void remove() {
+        if (last < 0) throw new IllegalStateException();
+
+        list.remove(last);
+        if (last < next) next--;
+        last = -1;
+    }
+
+    @Override
+    public void set(E e) {
+        if (last < 0) throw new IllegalStateException();
+
+        list.set(last, e);
+    }
+
+    @Override
+    public void add(E e) {
+        list.add(next++, e);
+        last = -1;
+    }
+}
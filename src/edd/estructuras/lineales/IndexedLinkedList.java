@@ -0,0 +1,335 @@
+package edd.estructuras.lineales;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Lista Doblemente Ligada con un índice de lista de saltos sobre sus nodos.
+ *
+ * Algunos nodos, elegidos al azar, tienen una torre de niveles; en cada nivel
+ * apuntan al siguiente y al anterior nodo con torre de ese nivel y guardan
+ * cuántas posiciones los separan del siguiente. Así getNode desciende por
+ * los niveles en O(log n) esperado, mientras que addBefore y removeNode
+ * actualizan las torres vecinas en O(log n) esperado sin conocer el índice
+ * del nodo. Los nodos sin torre son nodos comunes de LinkedList, que sigue
+ * disponible como la versión sin índice.
+ *
+ * @author mindahrelfen
+ */
+public class IndexedLinkedList<E> extends LinkedList<E> {
+
+    /**
+     * Cantidad máxima de niveles del índice.
+     */
+    public static final int MAX_LEVEL = 16;
+
+    /**
+     * Construye una lista vacía.
+     */
+    public IndexedLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Construye una lista vacía que recicla hasta poolCapacity nodos sin
+     * torre.
+     *
+     * @param poolCapacity Cantidad máxima de nodos reciclados.
+     */
+    public IndexedLinkedList(int poolCapacity) {
+        super(poolCapacity);
+        // Los centinelas tienen torres completas, así toda búsqueda hacia
+        // atrás termina a lo más en head.
+        head = new IndexedNode(null, tail, null, MAX_LEVEL);
+        tail = new IndexedNode(null, null, head, MAX_LEVEL);
+        head.next = tail;
+        resetIndex();
+    }
+
+    /**
+     * Elige al azar la altura de la torre de un nodo nuevo, cada nivel se
+     * agrega con probabilidad 1/4.
+     *
+     * @return int Altura entre 0 y {@value #MAX_LEVEL}.
+     */
+    protected int randomHeight() {
+        int r = ThreadLocalRandom.current().nextInt();
+        int h = 0;
+
+        while (h < MAX_LEVEL && (r & 3) == 0) {
+            h++;
+            r >>>= 2;
+        }
+
+        return h;
+    }
+
+    /**
+     * Devuelve la altura de la torre del nodo dado.
+     *
+     * @param node Node Nodo a revisar.
+     *
+     * @return int Cantidad de niveles del índice en los que aparece el nodo.
+     */
+    protected int height(Node<E> node) {
+        return node instanceof IndexedLinkedList.IndexedNode ? ((IndexedNode) node).width.length : 0;
+    }
+
+    @Override
+    protected Node<E> newNode(E e, Node<E> next, Node<E> previous) {
+        int h = randomHeight();
+        return h == 0 ? super.newNode(e, next, previous) : new IndexedNode(e, next, previous, h);
+    }
+
+    @Override
+    protected void releaseNode(Node<E> node) {
+        // Los nodos con torre tienen una altura fija, solo se reciclan los
+        // comunes, que newNode vuelve a pedir con super.newNode.
+        if (height(node) == 0) super.releaseNode(node);
+    }
+
+    /**
+     * Deja el índice vacío: en cada nivel head apunta directo a tail.
+     */
+    protected void resetIndex() {
+        IndexedNode h = (IndexedNode) head;
+        IndexedNode t = (IndexedNode) tail;
+
+        for (int lvl = 0; lvl < MAX_LEVEL; lvl++) {
+            h.nextAt[lvl] = t;
+            h.width[lvl] = size + 1;
+            t.prevAt[lvl] = h;
+        }
+    }
+
+    /**
+     * Reconstruye todos los niveles del índice recorriendo los nodos una vez.
+     * Se usa tras las operaciones en bloque.
+     */
+    protected void rebuildIndex() {
+        IndexedNode[] last = new IndexedLinkedList.IndexedNode[MAX_LEVEL];
+        int[] lastPos = new int[MAX_LEVEL];
+        IndexedNode x;
+        Node<E> current;
+        int pos, h;
+
+        for (int lvl = 0; lvl < MAX_LEVEL; lvl++) {
+            last[lvl] = (IndexedNode) head;
+            lastPos[lvl] = -1;
+        }
+
+        pos = 0;
+        for (current = head.next; current != tail; current = current.next, pos++) {
+            h = height(current);
+            if (h == 0) continue;
+            x = (IndexedNode) current;
+            for (int lvl = 0; lvl < h; lvl++) {
+                last[lvl].nextAt[lvl] = x;
+                last[lvl].width[lvl] = pos - lastPos[lvl];
+                x.prevAt[lvl] = last[lvl];
+                last[lvl] = x;
+                lastPos[lvl] = pos;
+            }
+        }
+
+        for (int lvl = 0; lvl < MAX_LEVEL; lvl++) {
+            last[lvl].nextAt[lvl] = (IndexedNode) tail;
+            last[lvl].width[lvl] = size - lastPos[lvl];
+            ((IndexedNode) tail).prevAt[lvl] = last[lvl];
+        }
+    }
+
+    /**
+     * Agrega al índice un nodo que ya está ligado en la lista. Busca hacia
+     * atrás, nivel por nivel, la torre más cercana que cubre al nodo.
+     *
+     * @param node Node Nodo recién ligado.
+     */
+    protected void link(Node<E> node) {
+        IndexedNode in, p, succ;
+        Node<E> current;
+        int h, dist;
+
+        h = height(node);
+        in = h > 0 ? (IndexedNode) node : null;
+        current = node.previous;
+        dist = 1;
+        for (int lvl = 0; lvl < MAX_LEVEL; lvl++) {
+            while (height(current) <= lvl) {
+                if (lvl == 0) {
+                    current = current.previous;
+                    dist++;
+                } else {
+                    p = ((IndexedNode) current).prevAt[lvl - 1];
+                    dist += p.width[lvl - 1];
+                    current = p;
+                }
+            }
+            p = (IndexedNode) current;
+            if (lvl < h) {
+                succ = p.nextAt[lvl];
+                in.nextAt[lvl] = succ;
+                in.prevAt[lvl] = p;
+                succ.prevAt[lvl] = in;
+                p.nextAt[lvl] = in;
+                in.width[lvl] = p.width[lvl] - dist + 1;
+                p.width[lvl] = dist;
+            } else {
+                p.width[lvl]++;
+            }
+        }
+    }
+
+    /**
+     * Quita del índice un nodo que todavía está ligado en la lista.
+     *
+     * @param node Node Nodo a quitar.
+     */
+    protected void unlink(Node<E> node) {
+        IndexedNode in, p;
+        Node<E> current;
+        int h;
+
+        h = height(node);
+        in = h > 0 ? (IndexedNode) node : null;
+        current = node.previous;
+        for (int lvl = 0; lvl < MAX_LEVEL; lvl++) {
+            if (lvl < h) {
+                p = in.prevAt[lvl];
+                p.nextAt[lvl] = in.nextAt[lvl];
+                in.nextAt[lvl].prevAt[lvl] = p;
+                p.width[lvl] += in.width[lvl] - 1;
+                current = p;
+                continue;
+            }
+            while (height(current) <= lvl) {
+                current = lvl == 0 ? current.previous : ((IndexedNode) current).prevAt[lvl - 1];
+            }
+            ((IndexedNode) current).width[lvl]--;
+        }
+    }
+
+    @Override
+    protected void addBefore(Node<E> node, E e) {
+        super.addBefore(node, e);
+        link(node.previous);
+    }
+
+    @Override
+    protected void addOnEmpty(E e) {
+        super.addOnEmpty(e);
+        link(head.next);
+    }
+
+    @Override
+    protected void addLast(E e) {
+        super.addLast(e);
+        link(tail.previous);
+    }
+
+    @Override
+    protected void removeNode(Node<E> node) {
+        unlink(node);
+        super.removeNode(node);
+    }
+
+    @Override
+    protected Node<E> getNode(int index) {
+        IndexedNode x;
+        Node<E> current;
+        int pos;
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        x = (IndexedNode) head;
+        pos = -1;
+        for (int lvl = MAX_LEVEL - 1; lvl >= 0; lvl--) {
+            while (pos + x.width[lvl] <= index) {
+                pos += x.width[lvl];
+                x = x.nextAt[lvl];
+            }
+        }
+
+        current = x;
+        while (pos < index) {
+            current = current.next;
+            pos++;
+        }
+
+        return current;
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) {
+        super.addAll(index, c);
+        rebuildIndex();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        // Pocos borrados cuestan O(log n) cada uno, muchos se hacen en bloque.
+        if (from >= 0 && from <= to && to <= size && (long) (to - from) * MAX_LEVEL < size) {
+            for (int i = from; i < to; i++) {
+                removeNode(getNode(from));
+            }
+            return;
+        }
+
+        super.removeRange(from, to);
+        rebuildIndex();
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        // El índice se reconstruye aunque el comparador falle a medio orden.
+        try {
+            super.sort(c);
+        } finally {
+            rebuildIndex();
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        resetIndex();
+    }
+
+    /**
+     * Nodo con una torre de niveles del índice. El nivel lvl de la torre
+     * corresponde a la posición lvl de los arreglos.
+     */
+    protected class IndexedNode extends Node<E> {
+
+        /**
+         * Siguiente nodo con torre en cada nivel.
+         */
+        protected IndexedNode[] nextAt;
+
+        /**
+         * Anterior nodo con torre en cada nivel.
+         */
+        protected IndexedNode[] prevAt;
+
+        /**
+         * Cantidad de posiciones hasta nextAt en cada nivel.
+         */
+        protected int[] width;
+
+        /*
+         * Constructor de un nodo con torre que almacena:
+         * Un elemento de tipo genérico
+         * Una referencia al siguiente nodo
+         * Una referencia al nodo previo
+         * La altura de su torre
+         */
+        public IndexedNode(E elem, Node<E> next, Node<E> previous, int height) {
+            super(elem, next, previous);
+            nextAt = new IndexedLinkedList.IndexedNode[height];
+            prevAt = new IndexedLinkedList.IndexedNode[height];
+            width = new int[height];
+        }
+    }
+}
@@ -1,8 +1,13 @@
 
 package edd.estructuras.lineales;
 
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * Implementación de Lista Doblemente Ligada.
@@ -26,13 +31,145 @@ public class LinkedList<E> implements List<E> {
      */
     protected int size;
 
+    /**
+     * Último nodo devuelto por getNode, o null si la lista cambió desde
+     * entonces.
+     */
+    protected Node<E> cursor;
+
+    /**
+     * Índice del nodo guardado en cursor.
+     */
+    protected int cursorIndex;
+
+    /**
+     * Primer nodo libre de la reserva de nodos reciclados, ligados por next.
+     */
+    protected Node<E> pool;
+
+    /**
+     * Cantidad de nodos dentro de la reserva.
+     */
+    protected int poolSize;
+
+    /**
+     * Cantidad máxima de nodos que guarda la reserva, cero la desactiva.
+     */
+    protected final int poolCapacity;
+
+    /**
+     * Cantidad de nodos que newNode tomó de la reserva.
+     */
+    protected long poolHits;
+
+    /**
+     * Cantidad de nodos que newNode tuvo que crear.
+     */
+    protected long poolMisses;
+
     /**
      * Construye una lista vacía.
      */
     public LinkedList() {
+        this(0);
+    }
+
+    /**
+     * Construye una lista vacía que recicla hasta poolCapacity nodos
+     * borrados. Así una lista usada como cola, donde cada add tiene un
+     * remove, deja de crear nodos una vez que la reserva se llena.
+     *
+     * @param poolCapacity Cantidad máxima de nodos reciclados.
+     */
+    public LinkedList(int poolCapacity) {
+        if (poolCapacity < 0) throw new IllegalArgumentException("Capacidad ilegal: " + poolCapacity);
+
+        this.poolCapacity = poolCapacity;
         // Se crean los nodos centinelas, cuya referencia es muta
         head = new Node<E>(null, tail, null);
         tail = new Node<E>(null, null, head);
+        head.next = tail;
+    }
+
+    /**
+     * Crea el nodo que guardará un elemento nuevo. Las clases hijas pueden
+     * sobrescribirlo para crear nodos con información adicional.
+     *
+     * @param e E Elemento a guardar.
+     * @param next Node Nodo siguiente.
+     * @param previous Node Nodo anterior.
+     *
+     * @return Node El nodo nuevo.
+     */
+    protected Node<E> newNode(E e, Node<E> next, Node<E> previous) {
+        Node<E> node = pool;
+
+        if (node == null) {
+            poolMisses++;
+            return new Node<E>(e, next, previous);
+        }
+
+        pool = node.next;
+        poolSize--;
+        poolHits++;
+        node.elem = e;
+        node.next = next;
+        node.previous = previous;
+
+        return node;
+    }
+
+    /**
+     * Devuelve a la reserva un nodo que ya se desligó de la lista, si aún
+     * cabe. Se limpia el elemento para no retener basura.
+     *
+     * @param node Node Nodo desligado.
+     */
+    protected void releaseNode(Node<E> node) {
+        if (poolSize >= poolCapacity) return;
+
+        node.elem = null;
+        node.previous = null;
+        node.next = pool;
+        pool = node;
+        poolSize++;
+    }
+
+    /**
+     * Devuelve cuántos nodos se han tomado de la reserva.
+     *
+     * @return long Cantidad de aciertos de la reserva.
+     */
+    public long poolHits() {
+        return poolHits;
+    }
+
+    /**
+     * Devuelve cuántos nodos se han tenido que crear.
+     *
+     * @return long Cantidad de fallos de la reserva.
+     */
+    public long poolMisses() {
+        return poolMisses;
+    }
+
+    /**
+     * Devuelve la fracción de nodos que se tomaron de la reserva.
+     *
+     * @return double Aciertos entre nodos pedidos, cero si no se ha pedido
+     * ninguno.
+     */
+    public double poolHitRate() {
+        long total = poolHits + poolMisses;
+        return total == 0 ? 0.0 : (double) poolHits / total;
+    }
+
+    /**
+     * Olvida el nodo guardado por getNode. Se invoca con cada cambio de
+     * estructura, pues los índices de los nodos pueden cambiar.
+     */
+    protected void invalidateCursor() {
+        cursor = null;
     }
 
     /**
@@ -42,11 +179,12 @@ public class LinkedList<E> implements List<E> {
      * @param e E Elemento a insertar.
      */
     protected void addBefore(Node<E> node, E e) {
-        Node<E> newNode = new Node<E>(e, node, node.previous);
+        Node<E> newNode = newNode(e, node, node.previous);
         // Se actualizan las referencias de los nodos apuntados por el nuevo nodo
         node.previous.next = newNode;
         node.previous = newNode;
         size++;
+        invalidateCursor();
     }
 
     /**
@@ -55,10 +193,11 @@ public class LinkedList<E> implements List<E> {
      * @param e E Elemento a insertar.
      */
     protected void addOnEmpty(E e) {
-        Node<E> newNode = new Node<E>(e,tail,head);
+        Node<E> newNode = newNode(e, tail, head);
         head.next = newNode;
         tail.previous = newNode;
         size = 1;
+        invalidateCursor();
     }
 
     /**
@@ -68,14 +207,17 @@ public class LinkedList<E> implements List<E> {
      * @param e E Elemento a insertar.
      */
     protected void addLast(E e) {
-        Node<E> newNode = new Node<E>(e,tail,tail.previous);
+        Node<E> newNode = newNode(e, tail, tail.previous);
         tail.previous.next = newNode;
         tail.previous = newNode;
         size++;
+        invalidateCursor();
     }
 
     /**
-     * Obtiene el nodo en el índice dado.
+     * Obtiene el nodo en el índice dado. Recorre desde la cabeza, la cola o
+     * el último nodo devuelto, el que esté más cerca, así recorrer la lista
+     * por índices consecutivos cuesta O(1) por llamada.
      *
      * @param index int Índice del nodo a buscar.
      *
@@ -86,22 +228,37 @@ public class LinkedList<E> implements List<E> {
             throw new IndexOutOfBoundsException();
         }
         Node<E> current;
-        if (index < size/2) {
+        int from = index < size/2 ? -1 : size;
+        if (cursor != null && Math.abs(index - cursorIndex) < Math.abs(index - from)) {
+            from = cursorIndex;
+        }
+        if (from == -1) {
             current = head.next;
             for (int i = 0; i < index; i++) {
                 current = current.next;
             }
-        } else {
+        } else if (from == size) {
             current = tail.previous;
             for (int i = size-1; i > index; i--) {
                 current = current.previous;
             }
+        } else {
+            current = cursor;
+            for (int i = from; i < index; i++) {
+                current = current.next;
+            }
+            for (int i = from; i > index; i--) {
+                current = current.previous;
+            }
         }
+        cursor = current;
+        cursorIndex = index;
         return current;
     }
 
     /**
-     * Borra el nodo dado.
+     * Borra el nodo dado y lo devuelve a la reserva. Quien lo invoca no debe
+     * usar el nodo después.
      *
      * @param aux Node Nodo a borrar.
      */
@@ -109,6 +266,8 @@ public class LinkedList<E> implements List<E> {
         node.previous.next = node.next;
         node.next.previous = node.previous;
         size--;
+        invalidateCursor();
+        releaseNode(node);
     }
 
     @Override
@@ -155,6 +314,172 @@ public class LinkedList<E> implements List<E> {
         return elem;
     }    
 
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) {
+        Node<E> node, first, last;
+        int m;
+
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        // Se construye la cadena completa antes de tocar la lista, así
+        // agregar la lista a sí misma no recorre los nodos recién creados.
+        first = last = null;
+        m = 0;
+        for (E e : c) {
+            node = newNode(e, null, last);
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            m++;
+        }
+        if (m == 0) return;
+
+        // Se empalma la cadena antes del nodo en index, o antes de la cola.
+        node = index == size ? tail : getNode(index);
+        first.previous = node.previous;
+        last.next = node;
+        node.previous.next = first;
+        node.previous = last;
+        size += m;
+        invalidateCursor();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        Node<E> first, last;
+
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (from == to) return;
+
+        first = getNode(from);
+        last = first;
+        for (int i = from + 1; i < to; i++) {
+            last = last.next;
+        }
+
+        first.previous.next = last.next;
+        last.next.previous = first.previous;
+        size -= to - from;
+        invalidateCursor();
+    }
+
+    @Override
+    public void clear() {
+        head.next = tail;
+        tail.previous = head;
+        size = 0;
+        invalidateCursor();
+    }
+
+    /**
+     * Ordena la lista con un merge sort de abajo hacia arriba que solo cambia
+     * las referencias de los nodos, sin crear nodos ni arreglos. En cada
+     * pasada se mezclan por parejas los tramos ordenados de tamaño width,
+     * usando solo las referencias next; al terminar se reconstruyen las
+     * referencias previous en un recorrido.
+     *
+     * Si el comparador lanza una excepción, la lista conserva todos sus
+     * elementos en un orden parcial y la excepción se propaga.
+     *
+     * @param c Criterio de orden, null para el orden natural.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        Comparator<? super E> cmp = c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+        Node<E> list, p = null, q = null, e, last = null;
+        int width, merges, psize = 0, qsize;
+        boolean sorted = false;
+
+        if (size < 2) return;
+
+        list = head.next;
+        tail.previous.next = null;
+        width = 1;
+        try {
+            do {
+                p = list;
+                list = last = null;
+                merges = 0;
+                while (p != null) {
+                    merges++;
+                    // q empieza width nodos después de p.
+                    q = p;
+                    psize = 0;
+                    while (psize < width && q != null) {
+                        psize++;
+                        q = q.next;
+                    }
+                    qsize = width;
+
+                    while (psize > 0 || (qsize > 0 && q != null)) {
+                        // En empate se toma de p para que el orden sea estable.
+                        if (psize == 0) {
+                            e = q;
+                            q = q.next;
+                            qsize--;
+                        } else if (qsize == 0 || q == null || cmp.compare(p.elem, q.elem) <= 0) {
+                            e = p;
+                            p = p.next;
+                            psize--;
+                        } else {
+                            e = q;
+                            q = q.next;
+                            qsize--;
+                        }
+                        if (last == null) {
+                            list = e;
+                        } else {
+                            last.next = e;
+                        }
+                        last = e;
+                    }
+                    p = q;
+                }
+                last.next = null;
+                width *= 2;
+            } while (merges > 1);
+            sorted = true;
+        } finally {
+            if (!sorted) {
+                // El comparador falló a media mezcla. Lo ya mezclado en esta
+                // pasada termina en last, quedan psize nodos del tramo p y
+                // desde q el resto sin tocar, que conserva sus referencias next.
+                if (psize > 0) {
+                    e = p;
+                    for (int i = 1; i < psize; i++) {
+                        e = e.next;
+                    }
+                    e.next = q;
+                } else {
+                    p = q;
+                }
+                if (last == null) {
+                    list = p;
+                } else {
+                    last.next = p;
+                }
+            }
+
+            // Se reconstruyen las referencias previous y los centinelas.
+            head.next = list;
+            p = head;
+            for (e = list; e != null; e = e.next) {
+                e.previous = p;
+                p = e;
+            }
+            p.next = tail;
+            tail.previous = p;
+            invalidateCursor();
+        }
+    }
+
     @Override
     public Iterator<E> iterator() {
         return new LinkedListIterator();
@@ -266,6 +591,211 @@ public class LinkedList<E> implements List<E> {
         }
     }
 
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return new LinkedListListIterator(index);
+    }
+
+    /**
+     * Iterador bidireccional de la clase LinkedList. Inserta y borra en el
+     * cursor con addBefore y removeNode, así cada edición cuesta O(1).
+     */
+    protected class LinkedListListIterator extends LinkedListIterator implements ListIterator<E> {
+
+        /**
+         * Nodo del último valor devuelto por next o previous, null si no se
+         * puede borrar ni modificar.
+         */
+        protected Node<E> lastReturned;
+
+        /**
+         * Crea un iterador que apunta al índice dado.
+         *
+         * @param index Índice del primer valor que devuelve next.
+         */
+        public LinkedListListIterator(int index) {
+            this.index = index;
+            siguiente = index == size ? tail : getNode(index);
+            lastReturned = null;
+        }
+
+        @Override
+        public E next() {
+            E e = super.next();
+
+            lastReturned = siguiente.previous;
+
+            return e;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return siguiente.previous != head;
+        }
+
+        @Override
+        public E previous() {
+            if (!hasPrevious()) throw new NoSuchElementException();
+
+            siguiente = siguiente.previous;
+            lastReturned = siguiente;
+            index--;
+
+            return siguiente.elem;
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) throw new IllegalStateException();
+
+            // Si el último movimiento fue previous, el cursor apuntaba al
+            // nodo borrado y avanza a su siguiente.
+            if (lastReturned == siguiente) {
+                siguiente = siguiente.next;
+            } else {
+                index--;
+            }
+            removeNode(lastReturned);
+            lastReturned = null;
+            canRemove = false;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturned == null) throw new IllegalStateException();
+
+            lastReturned.elem = e;
+        }
+
+        @Override
+        public void add(E e) {
+            addBefore(siguiente, e);
+            index++;
+            lastReturned = null;
+            canRemove = false;
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new LinkedListSpliterator();
+    }
+
+    /**
+     * Spliterator de la clase LinkedList. Como no se puede llegar a la mitad
+     * de la lista sin recorrerla, cada partición copia a un arreglo un bloque
+     * de nodos desde el inicio, cada vez más grande, y ese arreglo sí se
+     * parte por índices.
+     */
+    protected class LinkedListSpliterator implements Spliterator<E> {
+
+        /**
+         * Incremento del tamaño de los bloques en cada partición.
+         */
+        protected static final int BATCH_UNIT = 1 << 10;
+
+        /**
+         * Tamaño máximo de un bloque.
+         */
+        protected static final int MAX_BATCH = 1 << 25;
+
+        /**
+         * Nodo que contiene el siguiente valor a devolver.
+         */
+        protected Node<E> current;
+
+        /**
+         * Cantidad de valores que faltan por devolver.
+         */
+        protected int remaining;
+
+        /**
+         * Tamaño del último bloque devuelto por trySplit.
+         */
+        protected int batch;
+
+        /**
+         * Crea un spliterator sobre toda la lista.
+         */
+        public LinkedListSpliterator() {
+            current = head.next;
+            remaining = size;
+            batch = 0;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            E e;
+
+            if (action == null) throw new NullPointerException();
+            if (remaining <= 0) return false;
+
+            e = current.elem;
+            current = current.next;
+            remaining--;
+            action.accept(e);
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Node<E> node = current;
+
+            if (action == null) throw new NullPointerException();
+
+            for (int i = remaining; i > 0; i--) {
+                action.accept(node.elem);
+                node = node.next;
+            }
+            current = node;
+            remaining = 0;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            Object[] a;
+            int n;
+
+            if (remaining <= 1) return null;
+
+            n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            a = new Object[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = current.elem;
+                current = current.next;
+            }
+            batch = n;
+            remaining -= n;
+
+            return Spliterators.spliterator(a, 0, n, ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
     @Override
     public String toString() {
         if (isEmpty()) return "[]";
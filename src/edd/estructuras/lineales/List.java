@@ -1,7 +1,14 @@
 
 package edd.estructuras.lineales;
 
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * TDA para List.
@@ -67,4 +74,183 @@ public interface List<E> extends Iterable<E> {
      * @return Una referencia al elemento anterior en la posicion index.
      */
     public E remove(int index) throws IndexOutOfBoundsException;
+
+    /**
+     * Devuelve el indice de la primera aparicion del objeto dado en esta
+     * lista, comparando con equals.
+     *
+     * La implementacion por defecto recorre la lista con su iterador.
+     *
+     * @param o Objeto a buscar, puede ser null.
+     *
+     * @return El indice de la primera aparicion, o -1 si no esta en la lista.
+     */
+    public default int indexOf(Object o) {
+        int i = 0;
+
+        for (E e : this) {
+            if (Objects.equals(o, e)) return i;
+            i++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Pregunta si esta lista contiene el objeto dado, comparando con equals.
+     *
+     * @param o Objeto a buscar, puede ser null.
+     *
+     * @return Devuelve true si el objeto aparece al menos una vez.
+     */
+    public default boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Agrega todos los elementos del iterable dado a partir del indice index
+     * de esta lista, respetando el orden en que el iterable los devuelve.
+     * Si el indice esta fuera del rango valido de indices de esta lista lanza
+     * una excepcion IndexOutOfBoundsException.
+     *
+     * La implementacion por defecto inserta los elementos uno por uno con
+     * add(int, E), las clases hijas deben sobrescribirla con una version en
+     * bloque.
+     *
+     * @param index Indice donde se inserta el primer elemento.
+     * @param c Elementos a insertar.
+     */
+    public default void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+
+        for (E e : c) {
+            add(index++, e);
+        }
+    }
+
+    /**
+     * Agrega todos los elementos de la lista dada al final de esta lista.
+     *
+     * @param l Lista con los elementos a insertar.
+     */
+    public default void addAll(List<? extends E> l) {
+        addAll(size(), l);
+    }
+
+    /**
+     * Elimina los elementos cuyo indice se encuentra en el rango [from, to).
+     * Si from es negativo, to es mayor al tamaño de la lista o from es mayor a
+     * to lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param from Indice del primer elemento a eliminar.
+     * @param to Indice siguiente al ultimo elemento a eliminar.
+     */
+    public default void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+
+        for (int i = from; i < to; i++) {
+            remove(from);
+        }
+    }
+
+    /**
+     * Elimina todos los elementos de esta lista.
+     */
+    public default void clear() {
+        removeRange(0, size());
+    }
+
+    /**
+     * Devuelve un iterador bidireccional que inicia en el indice index, es
+     * decir, la primera llamada a next devuelve el elemento en index.
+     * Si el indice esta fuera del rango valido de indices de esta lista lanza
+     * una excepcion IndexOutOfBoundsException.
+     *
+     * El iterador permite insertar con add, modificar con set y borrar con
+     * remove en la posicion del cursor. La implementacion por defecto usa los
+     * metodos por indice de esta lista.
+     *
+     * @param index Indice del primer elemento a devolver.
+     *
+     * @return Un iterador sobre los elementos de esta lista.
+     */
+    public default ListIterator<E> listIterator(int index) throws IndexOutOfBoundsException {
+        return new IndexListIterator<>(this, index);
+    }
+
+    /**
+     * Devuelve un iterador bidireccional que inicia al principio de la lista.
+     *
+     * @return Un iterador sobre los elementos de esta lista.
+     */
+    public default ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Ordena esta lista de forma estable segun el comparador dado. Si el
+     * comparador es null se usa el orden natural de los elementos.
+     *
+     * La implementacion por defecto copia los elementos a un arreglo, lo
+     * ordena con Arrays.sort y los escribe de vuelta con listIterator(), asi
+     * que cuesta O(n log n) solo si el iterador de la lista modifica cada
+     * elemento en O(log n) o menos. Las clases cuyo set(int, E) recorre la
+     * lista deben sobrescribir listIterator o este metodo. Si el comparador
+     * lanza una excepcion la lista no cambia.
+     *
+     * @param c Criterio de orden, null para el orden natural.
+     */
+    public default void sort(Comparator<? super E> c) {
+        E[] a = (E[]) new Object[size()];
+        ListIterator<E> it;
+        int i = 0;
+
+        for (E e : this) {
+            a[i++] = e;
+        }
+        Arrays.sort(a, c);
+
+        it = listIterator();
+        for (E e : a) {
+            it.next();
+            it.set(e);
+        }
+    }
+
+    /**
+     * Devuelve un spliterator sobre los elementos de esta lista que conoce su
+     * tamaño, ORDERED, SIZED y SUBSIZED.
+     *
+     * La implementacion por defecto parte el iterador de la lista en bloques
+     * copiados a arreglos, las clases hijas pueden sobrescribirla con una
+     * particion que no copie.
+     *
+     * @return Un spliterator sobre los elementos de esta lista.
+     */
+    @Override
+    public default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Devuelve un flujo secuencial sobre los elementos de esta lista.
+     *
+     * @return Un Stream con los elementos de esta lista en orden.
+     */
+    public default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Devuelve un flujo paralelo sobre los elementos de esta lista.
+     *
+     * @return Un Stream paralelo con los elementos de esta lista.
+     */
+    public default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,334 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Implementación de ArrayList especializada para valores de tipo long. Los
+ * valores se guardan sin envolver en un arreglo long[], los métodos
+ * getLong, setLong, addLong y removeLong evitan crear objetos Long. Los métodos de
+ * List siguen disponibles para el código que espera una List&lt;Long&gt;, pero no
+ * aceptan null.
+ *
+ * @author mindahrelfen
+ */
+public class LongArrayList implements List<Long> {
+
+    /**
+     * Arreglo donde se guardan los valores que esta lista contiene.
+     */
+    protected long[] array;
+
+    /**
+     * Cantidad de elementos dentro de esta Lista.
+     */
+    protected int size;
+
+    /**
+     * Política con la que crece el arreglo cuando se llena.
+     */
+    protected GrowthPolicy policy;
+
+    /**
+     * Construye una lista vacía.
+     */
+    public LongArrayList() {
+        this(ArrayList.CAPACITY);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     */
+    public LongArrayList(int capacity) {
+        this(capacity, GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial y política de
+     * crecimiento.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     * @param policy Política de crecimiento del arreglo.
+     */
+    public LongArrayList(int capacity, GrowthPolicy policy) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacidad ilegal: " + capacity);
+        if (policy == null) throw new IllegalArgumentException("Politica nula");
+
+        size = 0;
+        array = new long[capacity];
+        this.policy = policy;
+    }
+
+    /**
+     * Asegura que el arreglo pueda guardar al menos minCapacity elementos sin
+     * volver a crecer.
+     *
+     * @param minCapacity Capacidad mínima deseada.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            array = Arrays.copyOf(array, policy.newCapacity(array.length, minCapacity));
+        }
+    }
+
+    /**
+     * Reduce la capacidad del arreglo al número de elementos de la lista.
+     */
+    public void trimToSize() {
+        if (size < array.length) {
+            array = Arrays.copyOf(array, size);
+        }
+    }
+
+    /**
+     * Devuelve la capacidad actual del arreglo.
+     *
+     * @return Cantidad de elementos que caben sin que el arreglo crezca.
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de esta lista.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    /**
+     * Devuelve el valor que se encuentra en el indice index sin envolverlo.
+     *
+     * @param index Indice a revisar
+     *
+     * @return El valor en la posicion index.
+     */
+    public long getLong(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size);
+
+        return array[index];
+    }
+
+    /**
+     * Modifica el valor que se encuentra en el indice index.
+     *
+     * @param index Indice a revisar
+     * @param e Nuevo valor.
+     *
+     * @return El valor anterior en la posicion index.
+     */
+    public long setLong(int index, long e) throws IndexOutOfBoundsException {
+        long previous;
+        checkIndex(index, size);
+
+        previous = array[index];
+        array[index] = e;
+
+        return previous;
+    }
+
+    /**
+     * Agrega el valor dado en el indice index.
+     *
+     * @param index Indice a revisar
+     * @param e Nuevo valor.
+     */
+    public void addLong(int index, long e) throws IndexOutOfBoundsException {
+        checkIndex(index, size + 1);
+
+        ensureCapacity(size + 1);
+        System.arraycopy(array, index, array, index + 1, size - index);
+
+        array[index] = e;
+        size++;
+    }
+
+    /**
+     * Agrega el valor dado al final de la lista.
+     *
+     * @param e Nuevo valor.
+     */
+    public void addLong(long e) {
+        ensureCapacity(size + 1);
+        array[size++] = e;
+    }
+
+    /**
+     * Elimina el valor que se encuentra en el indice index.
+     *
+     * @param index Indice a revisar
+     *
+     * @return El valor eliminado.
+     */
+    public long removeLong(int index) throws IndexOutOfBoundsException {
+        long e;
+
+        checkIndex(index, size);
+
+        e = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+
+        return e;
+    }
+
+    /**
+     * Devuelve una copia de los valores de esta lista.
+     *
+     * @return Un arreglo nuevo con los valores en orden.
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public Long get(int index) throws IndexOutOfBoundsException {
+        return getLong(index);
+    }
+
+    @Override
+    public Long set(int index, Long e) throws IndexOutOfBoundsException {
+        return setLong(index, e);
+    }
+
+    @Override
+    public void add(int index, Long e) throws IndexOutOfBoundsException {
+        addLong(index, e);
+    }
+
+    @Override
+    public Long remove(int index) throws IndexOutOfBoundsException {
+        return removeLong(index);
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends Long> c) throws IndexOutOfBoundsException {
+        long[] elems;
+        int m;
+
+        checkIndex(index, size + 1);
+
+        if (c instanceof LongArrayList) {
+            elems = ((LongArrayList) c).toLongArray();
+        } else {
+            elems = new long[c instanceof List ? ((List<?>) c).size() : ArrayList.CAPACITY];
+            m = 0;
+            for (Long e : c) {
+                if (m == elems.length) elems = Arrays.copyOf(elems, Math.max(m * 2, ArrayList.CAPACITY));
+                elems[m++] = e;
+            }
+            if (m < elems.length) elems = Arrays.copyOf(elems, m);
+        }
+
+        m = elems.length;
+        ensureCapacity(size + m);
+        System.arraycopy(array, index, array, index + m, size - index);
+        System.arraycopy(elems, 0, array, index, m);
+        size += m;
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+
+        System.arraycopy(array, to, array, from, size - to);
+        size -= to - from;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongArrayListIterator();
+    }
+
+    /**
+     * Clase que implementa un iterador sin envolver los valores.
+     */
+    protected class LongArrayListIterator implements PrimitiveIterator.OfLong {
+
+        /**
+         * Posición del valor next a devolver.
+         */
+        protected int next;
+
+        /**
+         * Bandera que dice si se puede borrar un elemento o no.
+         */
+        protected boolean canRemove;
+
+        /**
+         * Inicializa el iterador al inicio de la lista.
+         */
+        public LongArrayListIterator() {
+            next = 0;
+            canRemove = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            canRemove = true;
+
+            return array[next++];
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException();
+
+            next--;
+            System.arraycopy(array, next + 1, array, next, size - next - 1);
+            size--;
+
+            canRemove = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb;
+
+        if (isEmpty()) return "[]";
+
+        sb = new StringBuilder();
+
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(array[i]);
+            if (i < size - 1) sb.append(" ");
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,240 @@
+package edd.estructuras.lineales;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Implementación de una lista persistente cuyos elementos se guardan en un
+ * archivo mapeado a memoria. Al volver a abrir el archivo la lista recupera
+ * sus elementos sin deserializarlos.
+ *
+ * El archivo inicia con un encabezado de {@value #HEADER_SIZE} bytes que
+ * guarda un número mágico, la versión del formato, el ancho de los elementos,
+ * la cantidad de elementos por bloque y el tamaño de la lista. Después siguen
+ * los bloques de elementos, que se mapean uno por uno conforme la lista
+ * crece. El tamaño se actualiza en el encabezado con cada cambio, pero solo
+ * force() garantiza que los datos lleguen al disco.
+ *
+ * @author mindahrelfen
+ */
+public class MappedList<E> extends OffHeapList<E> {
+
+    /**
+     * Número mágico que identifica a los archivos de esta clase.
+     */
+    public static final int MAGIC = 0x4544444C;
+
+    /**
+     * Versión del formato del archivo.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Tamaño en bytes del encabezado.
+     */
+    public static final int HEADER_SIZE = 32;
+
+    /**
+     * Canal del archivo mapeado.
+     */
+    protected FileChannel channel;
+
+    /**
+     * Encabezado del archivo mapeado a memoria.
+     */
+    protected MappedByteBuffer header;
+
+    /**
+     * Abre o crea una lista en el archivo dado, con bloques de
+     * {@value OffHeapList#CHUNK_CAPACITY} elementos si el archivo es nuevo.
+     *
+     * @param file Archivo donde se guarda la lista.
+     * @param codec Codificador de los elementos.
+     *
+     * @throws IOException Si el archivo no puede abrirse o no es una lista
+     * compatible con el codificador.
+     */
+    public MappedList(Path file, Codec<E> codec) throws IOException {
+        this(file, codec, CHUNK_CAPACITY);
+    }
+
+    /**
+     * Abre o crea una lista en el archivo dado. Si el archivo ya existe se
+     * usa la cantidad de elementos por bloque guardada en su encabezado.
+     *
+     * @param file Archivo donde se guarda la lista.
+     * @param codec Codificador de los elementos.
+     * @param chunkCapacity Cantidad de elementos por bloque si el archivo es
+     * nuevo.
+     *
+     * @throws IOException Si el archivo no puede abrirse o no es una lista
+     * compatible con el codificador.
+     */
+    public MappedList(Path file, Codec<E> codec, int chunkCapacity) throws IOException {
+        super(codec, readChunkCapacity(file, chunkCapacity));
+
+        boolean exists = Files.exists(file) && Files.size(file) > 0;
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (exists) {
+                if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                    throw new IOException("Formato de archivo desconocido: " + file);
+                }
+                if (header.getInt(8) != width) {
+                    throw new IOException("Ancho de elemento incompatible: " + header.getInt(8));
+                }
+                ensureCapacity((int) header.getLong(16));
+                size = (int) header.getLong(16);
+            } else {
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putInt(8, width);
+                header.putInt(12, this.chunkCapacity);
+                header.putLong(16, 0L);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Lee la cantidad de elementos por bloque de un archivo existente. Antes
+     * de confiar en ella revisa el número mágico, la versión y que el
+     * encabezado sea coherente con el largo del archivo, para que un archivo
+     * ajeno o truncado no termine en una reserva enorme.
+     *
+     * @param file Archivo a revisar.
+     * @param chunkCapacity Valor a usar si el archivo no existe o está vacío.
+     *
+     * @return La cantidad de elementos por bloque.
+     *
+     * @throws IOException Si el archivo no puede leerse o su encabezado no es
+     * válido.
+     */
+    private static int readChunkCapacity(Path file, int chunkCapacity) throws IOException {
+        ByteBuffer buffer;
+        long length, size;
+        int width, capacity;
+
+        if (!Files.exists(file) || Files.size(file) == 0) return chunkCapacity;
+
+        buffer = ByteBuffer.allocate(HEADER_SIZE);
+        try (FileChannel fc = FileChannel.open(file, StandardOpenOption.READ)) {
+            length = fc.size();
+            while (buffer.hasRemaining()) {
+                if (fc.read(buffer) < 0) throw new IOException("Archivo truncado: " + file);
+            }
+        }
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Formato de archivo desconocido: " + file);
+        }
+        width = buffer.getInt(8);
+        capacity = buffer.getInt(12);
+        size = buffer.getLong(16);
+        if (width < 1) {
+            throw new IOException("Ancho de elemento incompatible: " + width);
+        }
+        if (capacity < 1 || (long) capacity * width > Integer.MAX_VALUE) {
+            throw new IOException("Capacidad de bloque ilegal: " + capacity);
+        }
+        // Cada elemento guardado ocupa su lugar en el archivo, así que un
+        // tamaño que no cabe delata un encabezado dañado.
+        if (size < 0 || size > Integer.MAX_VALUE || HEADER_SIZE + size * width > length) {
+            throw new IOException("Archivo truncado: " + file);
+        }
+
+        return capacity;
+    }
+
+    @Override
+    protected ByteBuffer newChunk(int chunk) {
+        long bytes = (long) chunkCapacity * width;
+
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + chunk * bytes, bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Guarda el tamaño actual en el encabezado.
+     */
+    protected void writeSize() {
+        header.putLong(16, size);
+    }
+
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        super.add(index, e);
+        writeSize();
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        E e = super.remove(index);
+        writeSize();
+        return e;
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        super.addAll(index, c);
+        writeSize();
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        super.removeRange(from, to);
+        writeSize();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        writeSize();
+    }
+
+    /**
+     * Escribe en disco todos los cambios hechos hasta ahora. Al regresar, la
+     * lista puede recuperarse tal cual aunque el proceso termine.
+     */
+    public void force() {
+        checkOpen();
+
+        for (int i = 0; i < chunkCount; i++) {
+            ((MappedByteBuffer) chunks[i]).force();
+        }
+        header.force();
+    }
+
+    /**
+     * Escribe en disco los cambios, libera los mapeos y cierra el archivo.
+     * Es seguro invocarlo más de una vez.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+
+        force();
+        super.close();
+        release(header);
+        header = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package edd.estructuras.lineales;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementación de una lista cuyos elementos se guardan codificados fuera
+ * del heap, en bloques de ByteBuffer directos de tamaño fijo. Cada elemento
+ * ocupa exactamente codec.width() bytes.
+ *
+ * La memoria se reserva por bloques conforme la lista crece y se libera al
+ * invocar close(), después de lo cual cualquier operación lanza una excepcion
+ * IllegalStateException.
+ *
+ * @author mindahrelfen
+ */
+public class OffHeapList<E> implements List<E>, AutoCloseable {
+
+    /**
+     * Cantidad de elementos por bloque por defecto.
+     */
+    public static final int CHUNK_CAPACITY = 4096;
+
+    /**
+     * Instancia de sun.misc.Unsafe, o null si no está disponible.
+     */
+    private static final Object UNSAFE;
+
+    /**
+     * Método invokeCleaner de sun.misc.Unsafe, o null si no está disponible.
+     */
+    private static final Method CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method cleaner = null;
+
+        try {
+            Class<?> c = Class.forName("sun.misc.Unsafe");
+            Field f = c.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            unsafe = f.get(null);
+            cleaner = c.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            cleaner = null;
+        }
+
+        UNSAFE = unsafe;
+        CLEANER = cleaner;
+    }
+
+    /**
+     * Codificador de los elementos.
+     */
+    protected final Codec<E> codec;
+
+    /**
+     * Ancho en bytes de cada elemento.
+     */
+    protected final int width;
+
+    /**
+     * Cantidad de elementos que caben en cada bloque.
+     */
+    protected final int chunkCapacity;
+
+    /**
+     * Bloques donde se guardan los elementos codificados.
+     */
+    protected ByteBuffer[] chunks;
+
+    /**
+     * Cantidad de bloques reservados.
+     */
+    protected int chunkCount;
+
+    /**
+     * Cantidad de elementos dentro de esta Lista.
+     */
+    protected int size;
+
+    /**
+     * Bandera que dice si la memoria de esta lista ya fue liberada.
+     */
+    protected boolean closed;
+
+    /**
+     * Construye una lista vacía con bloques de {@value #CHUNK_CAPACITY}
+     * elementos.
+     *
+     * @param codec Codificador de los elementos.
+     */
+    public OffHeapList(Codec<E> codec) {
+        this(codec, CHUNK_CAPACITY);
+    }
+
+    /**
+     * Construye una lista vacía.
+     *
+     * @param codec Codificador de los elementos.
+     * @param chunkCapacity Cantidad de elementos por bloque.
+     */
+    public OffHeapList(Codec<E> codec, int chunkCapacity) {
+        if (codec == null || codec.width() < 1) {
+            throw new IllegalArgumentException("Codificador ilegal");
+        }
+        if (chunkCapacity < 1 || (long) chunkCapacity * codec.width() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Capacidad de bloque ilegal: " + chunkCapacity);
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+        this.chunkCapacity = chunkCapacity;
+        chunks = new ByteBuffer[ArrayList.CAPACITY];
+        chunkCount = 0;
+        size = 0;
+        closed = false;
+    }
+
+    /**
+     * Reserva un bloque nuevo.
+     *
+     * @param chunk Índice del bloque a reservar.
+     *
+     * @return Un buffer de chunkCapacity * width bytes.
+     */
+    protected ByteBuffer newChunk(int chunk) {
+        return ByteBuffer.allocateDirect(chunkCapacity * width);
+    }
+
+    /**
+     * Asegura que existan bloques suficientes para guardar minCapacity
+     * elementos.
+     *
+     * @param minCapacity Cantidad de elementos a guardar.
+     */
+    protected void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) throw new IllegalStateException("Capacidad maxima excedida");
+
+        while ((long) chunkCount * chunkCapacity < minCapacity) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount] = newChunk(chunkCount);
+            chunkCount++;
+        }
+    }
+
+    /**
+     * Revisa que la memoria de esta lista no haya sido liberada.
+     */
+    protected void checkOpen() throws IllegalStateException {
+        if (closed) throw new IllegalStateException("Lista cerrada");
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de esta lista.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        checkOpen();
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    /**
+     * Lee el elemento guardado en la posición dada.
+     *
+     * @param index Posición válida.
+     *
+     * @return El elemento decodificado.
+     */
+    protected E read(int index) {
+        return codec.read(chunks[index / chunkCapacity], (index % chunkCapacity) * width);
+    }
+
+    /**
+     * Escribe el elemento en la posición dada.
+     *
+     * @param index Posición dentro de la capacidad reservada.
+     * @param e Elemento a codificar.
+     */
+    protected void write(int index, E e) {
+        codec.write(chunks[index / chunkCapacity], (index % chunkCapacity) * width, e);
+    }
+
+    /**
+     * Mueve count elementos de la posición from a la posición to. Copia por
+     * segmentos que no cruzan bordes de bloque, en el sentido que evita
+     * sobrescribir elementos que aún no se copian.
+     *
+     * @param from Posición del primer elemento a mover.
+     * @param to Posición destino del primer elemento.
+     * @param count Cantidad de elementos a mover.
+     */
+    protected void move(int from, int to, int count) {
+        int piece, src, dst;
+
+        if (count == 0 || from == to) return;
+
+        if (to < from) {
+            while (count > 0) {
+                piece = Math.min(count, Math.min(chunkCapacity - from % chunkCapacity,
+                        chunkCapacity - to % chunkCapacity));
+                copy(from, to, piece);
+                from += piece;
+                to += piece;
+                count -= piece;
+            }
+        } else {
+            src = from + count;
+            dst = to + count;
+            while (count > 0) {
+                piece = Math.min(count, Math.min((src - 1) % chunkCapacity + 1,
+                        (dst - 1) % chunkCapacity + 1));
+                src -= piece;
+                dst -= piece;
+                copy(src, dst, piece);
+                count -= piece;
+            }
+        }
+    }
+
+    /**
+     * Copia un segmento de elementos que no cruza bordes de bloque.
+     */
+    private void copy(int from, int to, int count) {
+        chunks[to / chunkCapacity].put((to % chunkCapacity) * width, chunks[from / chunkCapacity],
+                (from % chunkCapacity) * width, count * width);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size);
+
+        return read(index);
+    }
+
+    @Override
+    public E set(int index, E e) throws IndexOutOfBoundsException {
+        E previous;
+        checkIndex(index, size);
+
+        previous = read(index);
+        write(index, e);
+
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException {
+        checkIndex(index, size + 1);
+
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        try {
+            write(index, e);
+        } catch (RuntimeException ex) {
+            // El codificador rechazó el elemento, se regresa el corrimiento
+            // para que la lista no cambie.
+            move(index + 1, index, size - index);
+            throw ex;
+        }
+        size++;
+    }
+
+    @Override
+    public E remove(int index) throws IndexOutOfBoundsException {
+        E e;
+
+        checkIndex(index, size);
+
+        e = read(index);
+        move(index + 1, index, size - index - 1);
+        size--;
+
+        return e;
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException {
+        ArrayList<E> elems;
+        int m;
+
+        checkIndex(index, size + 1);
+
+        // Se copian primero al heap para conocer su número y cubrir el caso
+        // en que se agrega la lista a sí misma.
+        elems = new ArrayList<>();
+        elems.addAll(0, c);
+        m = elems.size();
+
+        ensureCapacity(size + m);
+        move(index, index + m, size - index);
+        try {
+            for (int i = 0; i < m; i++) {
+                write(index + i, elems.get(i));
+            }
+        } catch (RuntimeException ex) {
+            // Los elementos ya escritos solo ocupan el hueco, regresar el
+            // corrimiento los descarta y deja la lista como estaba.
+            move(index + m, index, size - index);
+            throw ex;
+        }
+        size += m;
+    }
+
+    @Override
+    public void removeRange(int from, int to) throws IndexOutOfBoundsException {
+        checkOpen();
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+
+        move(to, from, size - to);
+        size -= to - from;
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        size = 0;
+    }
+
+    /**
+     * Libera la memoria de todos los bloques. Es seguro invocarlo más de
+     * una vez.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+
+        for (int i = 0; i < chunkCount; i++) {
+            release(chunks[i]);
+        }
+        chunks = null;
+        chunkCount = 0;
+        size = 0;
+        closed = true;
+    }
+
+    /**
+     * Libera de inmediato la memoria de un buffer directo. Si la plataforma
+     * no lo permite la memoria se libera cuando el recolector de basura
+     * reclame el buffer.
+     *
+     * @param buffer Buffer directo que ya no se usará.
+     */
+    protected static void release(ByteBuffer buffer) {
+        if (CLEANER == null || !buffer.isDirect()) return;
+
+        try {
+            CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Se deja la liberación al recolector de basura.
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        checkOpen();
+        return new OffHeapListIterator();
+    }
+
+    /**
+     * Clase que implementa el Iterador de la clase OffHeapList.
+     */
+    protected class OffHeapListIterator implements Iterator<E> {
+
+        /**
+         * Posición del valor next a devolver.
+         */
+        protected int next;
+
+        /**
+         * Bandera que dice si se puede borrar un elemento o no.
+         */
+        protected boolean canRemove;
+
+        /**
+         * Inicializa el iterador al inicio de la lista.
+         */
+        public OffHeapListIterator() {
+            next = 0;
+            canRemove = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            checkOpen();
+
+            canRemove = true;
+
+            return read(next++);
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException();
+
+            OffHeapList.this.remove(--next);
+            canRemove = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb;
+
+        if (isEmpty()) return "[]";
+
+        sb = new StringBuilder();
+
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(read(i));
+            if (i < size - 1) sb.append(" ");
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
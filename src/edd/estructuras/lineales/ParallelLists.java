@@ -0,0 +1,469 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Operaciones en bloque sobre ArrayList que se reparten entre los hilos de un
+ * ForkJoinPool. Trabajan directamente sobre el arreglo de la lista, sin
+ * copiarla a otra colección.
+ *
+ * Cada operación parte el rango de índices a la mitad hasta que los pedazos
+ * tienen a lo más threshold elementos, y esos pedazos se procesan de forma
+ * secuencial. Las listas no deben modificarse mientras una operación corre.
+ *
+ * @author mindahrelfen
+ */
+public class ParallelLists {
+
+    /**
+     * Tamaño por defecto de los pedazos que se procesan sin partir.
+     */
+    public static final int THRESHOLD = 1 << 13;
+
+    /**
+     * Conjunto de hilos donde corren las operaciones.
+     */
+    protected final ForkJoinPool pool;
+
+    /**
+     * Tamaño máximo de los pedazos que se procesan sin partir.
+     */
+    protected final int threshold;
+
+    /**
+     * Construye las operaciones sobre el conjunto común de hilos con el
+     * tamaño de pedazo por defecto.
+     */
+    public ParallelLists() {
+        this(ForkJoinPool.commonPool(), THRESHOLD);
+    }
+
+    /**
+     * Construye las operaciones sobre el conjunto de hilos dado.
+     *
+     * @param pool Conjunto de hilos donde corren las operaciones.
+     * @param threshold Tamaño máximo de los pedazos que no se parten, al
+     * menos uno.
+     */
+    public ParallelLists(ForkJoinPool pool, int threshold) {
+        if (pool == null) throw new IllegalArgumentException("Conjunto de hilos nulo");
+        if (threshold < 1) throw new IllegalArgumentException("Umbral ilegal: " + threshold);
+
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Ordena la lista de forma estable con un merge sort paralelo. Los
+     * pedazos se ordenan con Arrays.sort y se mezclan por parejas.
+     *
+     * Como en ArrayList.sort, se ordena una copia y se escribe sobre el
+     * arreglo solo al terminar: si el comparador lanza una excepción a
+     * media ordenación de un pedazo, la lista no cambia.
+     *
+     * @param list Lista a ordenar.
+     * @param c Criterio de orden, null para el orden natural.
+     */
+    public <E> void sort(ArrayList<E> list, Comparator<? super E> c) {
+        Comparator<? super E> cmp = c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
+        E[] a;
+
+        if (list.size < 2) return;
+
+        a = Arrays.copyOf(list.array, list.size);
+        pool.invoke(new SortTask<>(a, (E[]) new Object[a.length], 0, a.length, cmp));
+        System.arraycopy(a, 0, list.array, 0, a.length);
+    }
+
+    /**
+     * Aplica la acción dada a cada elemento de la lista. El orden en que se
+     * visitan los elementos no está definido.
+     *
+     * @param list Lista a recorrer.
+     * @param action Acción a aplicar.
+     */
+    public <E> void forEach(ArrayList<E> list, Consumer<? super E> action) {
+        E[] a = list.array;
+
+        pool.invoke(new RangeTask(0, list.size, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                action.accept(a[i]);
+            }
+        }));
+    }
+
+    /**
+     * Devuelve una lista nueva con el resultado de aplicar la función dada a
+     * cada elemento, en el mismo orden. La lista nueva se crea con el tamaño
+     * exacto y cada pedazo escribe su parte directamente.
+     *
+     * @param list Lista original.
+     * @param f Función a aplicar.
+     *
+     * @return Lista con los resultados.
+     */
+    public <E, R> ArrayList<R> map(ArrayList<E> list, Function<? super E, ? extends R> f) {
+        int n = list.size;
+        E[] a = list.array;
+        ArrayList<R> result = new ArrayList<>(n);
+        R[] b = result.array;
+
+        pool.invoke(new RangeTask(0, n, (lo, hi) -> {
+            for (int i = lo; i < hi; i++) {
+                b[i] = f.apply(a[i]);
+            }
+        }));
+        result.size = n;
+
+        return result;
+    }
+
+    /**
+     * Devuelve una lista nueva con los elementos que cumplen el predicado, en
+     * el mismo orden. Se hacen dos pasadas paralelas: la primera marca y
+     * cuenta los elementos de cada pedazo y la segunda los copia a partir de
+     * la suma de las cuentas de los pedazos anteriores.
+     *
+     * @param list Lista original.
+     * @param p Predicado a cumplir.
+     *
+     * @return Lista con los elementos que cumplen el predicado.
+     */
+    public <E> ArrayList<E> filter(ArrayList<E> list, Predicate<? super E> p) {
+        int n = list.size;
+        E[] a = list.array;
+        boolean[] keep = new boolean[n];
+        int[] offsets = new int[chunks(n) + 1];
+        ArrayList<E> result;
+        E[] b;
+
+        pool.invoke(new RangeTask(0, n, (lo, hi) -> {
+            int count = 0;
+            for (int i = lo; i < hi; i++) {
+                if (keep[i] = p.test(a[i])) count++;
+            }
+            offsets[lo / threshold + 1] = count;
+        }));
+        for (int k = 1; k < offsets.length; k++) {
+            offsets[k] += offsets[k - 1];
+        }
+
+        result = new ArrayList<>(offsets[offsets.length - 1]);
+        b = result.array;
+        pool.invoke(new RangeTask(0, n, (lo, hi) -> {
+            int j = offsets[lo / threshold];
+            for (int i = lo; i < hi; i++) {
+                if (keep[i]) b[j++] = a[i];
+            }
+        }));
+        result.size = offsets[offsets.length - 1];
+
+        return result;
+    }
+
+    /**
+     * Combina todos los elementos de la lista con la operación dada, que debe
+     * ser asociativa.
+     *
+     * @param list Lista a reducir.
+     * @param identity Neutro de la operación, se devuelve si la lista está
+     * vacía.
+     * @param op Operación asociativa.
+     *
+     * @return La combinación de todos los elementos.
+     */
+    public <E> E reduce(ArrayList<E> list, E identity, BinaryOperator<E> op) {
+        return pool.invoke(new ReduceTask<>(list.array, 0, list.size, identity, op));
+    }
+
+    /**
+     * Devuelve una lista nueva cuyo elemento i es la combinación de los
+     * elementos [0, i] de la lista dada. La operación debe ser asociativa.
+     * La primera pasada reduce cada pedazo, las reducciones se acumulan de
+     * forma secuencial y la segunda pasada acumula cada pedazo a partir de
+     * la reducción de los anteriores.
+     *
+     * @param list Lista original.
+     * @param op Operación asociativa.
+     *
+     * @return Lista con las sumas prefijas.
+     */
+    public <E> ArrayList<E> scan(ArrayList<E> list, BinaryOperator<E> op) {
+        int n = list.size;
+        E[] a = list.array;
+        E[] totals = (E[]) new Object[chunks(n)];
+        ArrayList<E> result = new ArrayList<>(n);
+        E[] b = result.array;
+
+        pool.invoke(new RangeTask(0, n, (lo, hi) -> {
+            E acc = a[lo];
+            for (int i = lo + 1; i < hi; i++) {
+                acc = op.apply(acc, a[i]);
+            }
+            totals[lo / threshold] = acc;
+        }));
+        for (int k = 1; k < totals.length; k++) {
+            totals[k] = op.apply(totals[k - 1], totals[k]);
+        }
+
+        pool.invoke(new RangeTask(0, n, (lo, hi) -> {
+            int k = lo / threshold;
+            E acc = k == 0 ? a[lo] : op.apply(totals[k - 1], a[lo]);
+            b[lo] = acc;
+            for (int i = lo + 1; i < hi; i++) {
+                b[i] = acc = op.apply(acc, a[i]);
+            }
+        }));
+        result.size = n;
+
+        return result;
+    }
+
+    /**
+     * Devuelve la cantidad de pedazos en los que RangeTask parte n
+     * elementos.
+     *
+     * @param n Cantidad de elementos.
+     *
+     * @return Cantidad de pedazos.
+     */
+    protected int chunks(int n) {
+        return (int) (((long) n + threshold - 1) / threshold);
+    }
+
+    /**
+     * Trabajo sobre un pedazo [lo, hi) de índices.
+     */
+    @FunctionalInterface
+    protected interface Chunk {
+
+        /**
+         * Procesa los índices del pedazo dado.
+         *
+         * @param lo Primer índice del pedazo.
+         * @param hi Índice siguiente al último del pedazo.
+         */
+        void apply(int lo, int hi);
+    }
+
+    /**
+     * Parte un rango de índices en pedazos alineados a threshold, así el
+     * pedazo que empieza en lo es el número lo / threshold.
+     */
+    protected class RangeTask extends RecursiveAction {
+
+        /**
+         * Versión de serialización, RecursiveAction y RecursiveTask son
+         * Serializable aunque las tareas nunca se serializan.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Primer índice del rango.
+         */
+        protected final int lo;
+
+        /**
+         * Índice siguiente al último del rango.
+         */
+        protected final int hi;
+
+        /**
+         * Trabajo a aplicar a cada pedazo.
+         */
+        protected final Chunk chunk;
+
+        /**
+         * Crea la tarea sobre el rango dado.
+         *
+         * @param lo Primer índice, múltiplo de threshold.
+         * @param hi Índice siguiente al último.
+         * @param chunk Trabajo a aplicar a cada pedazo.
+         */
+        public RangeTask(int lo, int hi, Chunk chunk) {
+            this.lo = lo;
+            this.hi = hi;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            int n = chunks(hi - lo);
+            int mid;
+
+            if (n == 0) return;
+            if (n == 1) {
+                chunk.apply(lo, hi);
+                return;
+            }
+
+            mid = lo + (n / 2) * threshold;
+            invokeAll(new RangeTask(lo, mid, chunk), new RangeTask(mid, hi, chunk));
+        }
+    }
+
+    /**
+     * Merge sort de un rango del arreglo usando tmp como espacio auxiliar.
+     */
+    protected class SortTask<E> extends RecursiveAction {
+
+        /**
+         * Versión de serialización, RecursiveAction y RecursiveTask son
+         * Serializable aunque las tareas nunca se serializan.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Arreglo a ordenar.
+         */
+        protected final E[] a;
+
+        /**
+         * Espacio auxiliar del mismo tamaño que a.
+         */
+        protected final E[] tmp;
+
+        /**
+         * Primer índice del rango.
+         */
+        protected final int lo;
+
+        /**
+         * Índice siguiente al último del rango.
+         */
+        protected final int hi;
+
+        /**
+         * Criterio de orden.
+         */
+        protected final Comparator<? super E> c;
+
+        /**
+         * Crea la tarea sobre el rango dado.
+         *
+         * @param a Arreglo a ordenar.
+         * @param tmp Espacio auxiliar.
+         * @param lo Primer índice.
+         * @param hi Índice siguiente al último.
+         * @param c Criterio de orden.
+         */
+        public SortTask(E[] a, E[] tmp, int lo, int hi, Comparator<? super E> c) {
+            this.a = a;
+            this.tmp = tmp;
+            this.lo = lo;
+            this.hi = hi;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            int mid, i, j, k;
+
+            if (hi - lo <= threshold) {
+                Arrays.sort(a, lo, hi, c);
+                return;
+            }
+
+            mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask<>(a, tmp, lo, mid, c), new SortTask<>(a, tmp, mid, hi, c));
+
+            // Si las mitades ya están en orden no hace falta mezclar.
+            if (c.compare(a[mid - 1], a[mid]) <= 0) return;
+
+            i = lo;
+            j = mid;
+            k = lo;
+            while (i < mid && j < hi) {
+                tmp[k++] = c.compare(a[j], a[i]) < 0 ? a[j++] : a[i++];
+            }
+            System.arraycopy(a, i, tmp, k, mid - i);
+            k += mid - i;
+            System.arraycopy(a, j, tmp, k, hi - j);
+            System.arraycopy(tmp, lo, a, lo, hi - lo);
+        }
+    }
+
+    /**
+     * Reducción de un rango del arreglo.
+     */
+    protected class ReduceTask<E> extends RecursiveTask<E> {
+
+        /**
+         * Versión de serialización, RecursiveAction y RecursiveTask son
+         * Serializable aunque las tareas nunca se serializan.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Arreglo a reducir.
+         */
+        protected final E[] a;
+
+        /**
+         * Primer índice del rango.
+         */
+        protected final int lo;
+
+        /**
+         * Índice siguiente al último del rango.
+         */
+        protected final int hi;
+
+        /**
+         * Neutro de la operación.
+         */
+        protected final E identity;
+
+        /**
+         * Operación asociativa.
+         */
+        protected final BinaryOperator<E> op;
+
+        /**
+         * Crea la tarea sobre el rango dado.
+         *
+         * @param a Arreglo a reducir.
+         * @param lo Primer índice.
+         * @param hi Índice siguiente al último.
+         * @param identity Neutro de la operación.
+         * @param op Operación asociativa.
+         */
+        public ReduceTask(E[] a, int lo, int hi, E identity, BinaryOperator<E> op) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.identity = identity;
+            this.op = op;
+        }
+
+        @Override
+        protected E compute() {
+            ReduceTask<E> left;
+            E acc;
+            int mid;
+
+            if (hi - lo <= threshold) {
+                acc = identity;
+                for (int i = lo; i < hi; i++) {
+                    acc = op.apply(acc, a[i]);
+                }
+                return acc;
+            }
+
+            mid = (lo + hi) >>> 1;
+            left = new ReduceTask<>(a, lo, mid, identity, op);
+            left.fork();
+            acc = new ReduceTask<>(a, mid, hi, identity, op).compute();
+
+            return op.apply(left.join(), acc);
+        }
+    }
+}
@@ -0,0 +1,675 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Vector inmutable y persistente. set, add y removeLast no modifican el
+ * vector, devuelven una versión nueva que comparte casi toda su estructura
+ * con la anterior, así guardar una versión para lectores cuesta O(1) en
+ * lugar de copiar todo el arreglo como con ArrayList.
+ *
+ * Los elementos viven en las hojas de un árbol de aridad 32, cada hoja es un
+ * arreglo de 32 elementos y el índice se parte en grupos de cinco bits para
+ * bajar por el árbol. Los últimos elementos, hasta 32, se guardan aparte en
+ * el arreglo tail, así agregar al final casi siempre copia solo ese arreglo.
+ * Modificar el árbol copia el camino de la raíz a la hoja, O(log32 n).
+ *
+ * Para construir vectores grandes conviene Builder, que modifica sus nodos
+ * en su lugar mientras nadie más los vea.
+ *
+ * @author mindahrelfen
+ */
+public class PersistentVector<E> implements Iterable<E> {
+
+    /**
+     * Bits del índice que se consumen en cada nivel del árbol.
+     */
+    protected static final int BITS = 5;
+
+    /**
+     * Cantidad de hijos de cada nodo y de elementos de cada hoja.
+     */
+    protected static final int WIDTH = 1 << BITS;
+
+    /**
+     * Máscara para obtener la posición dentro de un nodo.
+     */
+    protected static final int MASK = WIDTH - 1;
+
+    /**
+     * Raíz vacía compartida por todos los vectores chicos.
+     */
+    protected static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    /**
+     * Vector vacío.
+     */
+    protected static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    /**
+     * Cantidad de elementos.
+     */
+    protected final int size;
+
+    /**
+     * Bits que se recorren para llegar de la raíz a una hoja.
+     */
+    protected final int shift;
+
+    /**
+     * Raíz del árbol.
+     */
+    protected final Node root;
+
+    /**
+     * Últimos elementos, su longitud es exactamente size - tailOffset().
+     */
+    protected final Object[] tail;
+
+    /**
+     * Construye un vector con la estructura dada.
+     */
+    protected PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Devuelve el vector vacío.
+     *
+     * @return Un vector sin elementos.
+     */
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Construye un vector con los elementos del iterable dado.
+     *
+     * @param c Elementos del vector.
+     *
+     * @return El vector.
+     */
+    public static <E> PersistentVector<E> of(Iterable<? extends E> c) {
+        Builder<E> builder = new Builder<>();
+
+        for (E e : c) {
+            builder.add(e);
+        }
+
+        return builder.snapshot();
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de este vector.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected static void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    /**
+     * Devuelve el índice del primer elemento de tail.
+     *
+     * @param size Cantidad de elementos.
+     *
+     * @return Múltiplo de WIDTH.
+     */
+    protected static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Devuelve la hoja, o tail, que contiene el índice dado.
+     *
+     * @param index Índice válido.
+     * @param size Cantidad de elementos.
+     * @param shift Bits de la raíz a las hojas.
+     * @param root Raíz del árbol.
+     * @param tail Últimos elementos.
+     *
+     * @return El arreglo donde está el elemento, en la posición index & MASK.
+     */
+    protected static Object[] leafFor(int index, int size, int shift, Node root, Object[] tail) {
+        Node node = root;
+
+        if (index >= tailOffset(size)) return tail;
+
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+
+        return node.array;
+    }
+
+    /**
+     * Construye el camino de nodos nuevos que baja desde el nivel dado hasta
+     * node por los primeros hijos.
+     *
+     * @param edit Dueño de los nodos nuevos, null si son inmutables.
+     * @param level Nivel del primer nodo del camino.
+     * @param node Nodo al final del camino.
+     *
+     * @return El primer nodo del camino.
+     */
+    protected static Node newPath(Object edit, int level, Node node) {
+        Node ret;
+
+        if (level == 0) return node;
+
+        ret = new Node(edit, new Object[WIDTH]);
+        ret.array[0] = newPath(edit, level - BITS, node);
+
+        return ret;
+    }
+
+    /**
+     * Devuelve el número de elementos contenidos en este vector.
+     *
+     * @return El tamaño de este vector.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Pregunta si este vector esta vacio.
+     *
+     * @return Devuelve true si no tiene elementos.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Devuelve el elemento en el índice dado, O(log32 n).
+     *
+     * @param index Índice a revisar.
+     *
+     * @return El elemento.
+     */
+    public E get(int index) throws IndexOutOfBoundsException {
+        checkIndex(index, size);
+
+        return (E) leafFor(index, size, shift, root, tail)[index & MASK];
+    }
+
+    /**
+     * Devuelve una versión con el elemento del índice dado reemplazado.
+     *
+     * @param index Índice a modificar.
+     * @param e Nuevo elemento.
+     *
+     * @return El vector nuevo, este no cambia.
+     */
+    public PersistentVector<E> set(int index, E e) throws IndexOutOfBoundsException {
+        Object[] aux;
+
+        checkIndex(index, size);
+
+        if (index >= tailOffset(size)) {
+            aux = tail.clone();
+            aux[index & MASK] = e;
+            return new PersistentVector<>(size, shift, root, aux);
+        }
+
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, e), tail);
+    }
+
+    /**
+     * Copia el camino hasta la hoja del índice dado y cambia el elemento.
+     */
+    protected static Node assoc(int level, Node node, int index, Object e) {
+        Node ret = new Node(null, node.array.clone());
+        int i;
+
+        if (level == 0) {
+            ret.array[index & MASK] = e;
+        } else {
+            i = (index >>> level) & MASK;
+            ret.array[i] = assoc(level - BITS, (Node) node.array[i], index, e);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Devuelve una versión con el elemento dado agregado al final.
+     *
+     * @param e Elemento a agregar.
+     *
+     * @return El vector nuevo, este no cambia.
+     */
+    public PersistentVector<E> add(E e) {
+        Object[] aux;
+        Node leaf, newRoot;
+        int newShift = shift;
+
+        if (size - tailOffset(size) < WIDTH) {
+            aux = Arrays.copyOf(tail, tail.length + 1);
+            aux[tail.length] = e;
+            return new PersistentVector<>(size + 1, shift, root, aux);
+        }
+
+        // tail está lleno, se vuelve una hoja del árbol.
+        leaf = new Node(null, tail);
+        if ((size >>> BITS) > (1 << shift)) {
+            // La raíz está llena, el árbol crece un nivel.
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, leaf);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, leaf);
+        }
+
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {e});
+    }
+
+    /**
+     * Copia el camino hasta la posición de la hoja nueva y la cuelga ahí.
+     */
+    protected Node pushTail(int level, Node parent, Node leaf) {
+        Node ret = new Node(null, parent.array.clone());
+        int i = ((size - 1) >>> level) & MASK;
+        Node child;
+
+        if (level == BITS) {
+            ret.array[i] = leaf;
+        } else {
+            child = (Node) parent.array[i];
+            ret.array[i] = child != null ? pushTail(level - BITS, child, leaf) : newPath(null, level - BITS, leaf);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Devuelve una versión sin el último elemento.
+     *
+     * @return El vector nuevo, este no cambia.
+     *
+     * @throws NoSuchElementException Si el vector está vacío.
+     */
+    public PersistentVector<E> removeLast() {
+        Object[] newTail;
+        Node newRoot;
+        int newShift = shift;
+
+        if (size == 0) throw new NoSuchElementException("Vector vacio");
+        if (size == 1) return empty();
+
+        if (size - tailOffset(size) > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        // tail se queda vacío, la última hoja del árbol toma su lugar.
+        newTail = leafFor(size - 2, size, shift, root, tail);
+        newRoot = popTail(shift, root);
+        if (newRoot == null) newRoot = EMPTY_NODE;
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Copia el camino hasta la última hoja sin incluirla.
+     *
+     * @return El nodo nuevo, o null si queda vacío.
+     */
+    protected Node popTail(int level, Node node) {
+        int i = ((size - 2) >>> level) & MASK;
+        Node child, ret;
+
+        if (level > BITS) {
+            child = popTail(level - BITS, (Node) node.array[i]);
+            if (child == null && i == 0) return null;
+            ret = new Node(null, node.array.clone());
+            ret.array[i] = child;
+            return ret;
+        }
+        if (i == 0) return null;
+
+        ret = new Node(null, node.array.clone());
+        ret.array[i] = null;
+
+        return ret;
+    }
+
+    /**
+     * Devuelve un constructor que empieza con los elementos de este vector.
+     * Comparte los nodos y los copia solo al modificarlos por primera vez.
+     *
+     * @return Un constructor nuevo.
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new PersistentVectorIterator();
+    }
+
+    /**
+     * Devuelve un spliterator que además de ORDERED, SIZED y SUBSIZED es
+     * IMMUTABLE.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Devuelve un stream secuencial sobre los elementos de este vector.
+     *
+     * @return Un stream sobre los elementos de este vector.
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Nodo del árbol. Un nodo cuyo edit es null es inmutable, uno cuyo edit
+     * es el de un Builder pertenece a ese constructor y solo él lo modifica.
+     */
+    protected static class Node {
+
+        /**
+         * Dueño del nodo, null si ya es inmutable.
+         */
+        protected final Object edit;
+
+        /**
+         * Hijos del nodo, o elementos si es una hoja.
+         */
+        protected final Object[] array;
+
+        public Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Clase que implementa el Iterador de la clase PersistentVector. Busca
+     * cada hoja una sola vez.
+     */
+    protected class PersistentVectorIterator implements Iterator<E> {
+
+        /**
+         * Hoja del valor next a devolver.
+         */
+        protected Object[] leaf;
+
+        /**
+         * Índice del valor next a devolver.
+         */
+        protected int next;
+
+        /**
+         * Crea un iterador que apunta al primer elemento.
+         */
+        public PersistentVectorIterator() {
+            next = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            if ((next & MASK) == 0) leaf = leafFor(next, size, shift, root, tail);
+
+            return (E) leaf[next++ & MASK];
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("El vector es inmutable");
+        }
+    }
+
+    /**
+     * Constructor mutable de vectores. Modifica en su lugar los nodos que
+     * creó desde la última llamada a snapshot y copia los demás la primera
+     * vez que los toca, así agregar muchos elementos no copia caminos.
+     *
+     * snapshot devuelve en O(1) un vector con el contenido actual. Después el
+     * constructor cambia de dueño, de modo que sus escrituras siguientes
+     * copian los nodos que ahora comparte con el vector en lugar de
+     * modificarlos. No es seguro para varios hilos.
+     */
+    public static class Builder<E> {
+
+        /**
+         * Dueño de los nodos que este constructor puede modificar.
+         */
+        protected Object edit;
+
+        /**
+         * Cantidad de elementos.
+         */
+        protected int size;
+
+        /**
+         * Bits que se recorren para llegar de la raíz a una hoja.
+         */
+        protected int shift;
+
+        /**
+         * Raíz del árbol.
+         */
+        protected Node root;
+
+        /**
+         * Últimos elementos, siempre de longitud WIDTH y propio de este
+         * constructor.
+         */
+        protected Object[] tail;
+
+        /**
+         * Construye un constructor vacío.
+         */
+        public Builder() {
+            this(PersistentVector.empty());
+        }
+
+        /**
+         * Construye un constructor que empieza con los elementos del vector
+         * dado.
+         *
+         * @param v Vector inicial.
+         */
+        public Builder(PersistentVector<E> v) {
+            edit = new Object();
+            size = v.size;
+            shift = v.shift;
+            root = v.root;
+            tail = Arrays.copyOf(v.tail, WIDTH);
+        }
+
+        /**
+         * Devuelve el nodo dado si es de este constructor o una copia suya
+         * que sí lo es.
+         */
+        protected Node editable(Node node) {
+            return node.edit == edit ? node : new Node(edit, node.array.clone());
+        }
+
+        /**
+         * Devuelve el número de elementos.
+         *
+         * @return El tamaño actual.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Devuelve el elemento en el índice dado.
+         *
+         * @param index Índice a revisar.
+         *
+         * @return El elemento.
+         */
+        public E get(int index) throws IndexOutOfBoundsException {
+            checkIndex(index, size);
+
+            return (E) leafFor(index, size, shift, root, tail)[index & MASK];
+        }
+
+        /**
+         * Reemplaza el elemento del índice dado.
+         *
+         * @param index Índice a modificar.
+         * @param e Nuevo elemento.
+         *
+         * @return El elemento anterior.
+         */
+        public E set(int index, E e) throws IndexOutOfBoundsException {
+            Object[] leaf;
+            Node node;
+            E previous;
+
+            checkIndex(index, size);
+
+            if (index >= tailOffset(size)) {
+                leaf = tail;
+            } else {
+                root = editable(root);
+                node = root;
+                for (int level = shift; level > 0; level -= BITS) {
+                    Object[] children = node.array;
+                    int i = (index >>> level) & MASK;
+                    node = editable((Node) children[i]);
+                    children[i] = node;
+                }
+                leaf = node.array;
+            }
+
+            previous = (E) leaf[index & MASK];
+            leaf[index & MASK] = e;
+
+            return previous;
+        }
+
+        /**
+         * Agrega un elemento al final.
+         *
+         * @param e Elemento a agregar.
+         *
+         * @return Este constructor.
+         */
+        public Builder<E> add(E e) {
+            Node leaf, newRoot;
+
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size++ & MASK] = e;
+                return this;
+            }
+
+            leaf = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = e;
+            if ((size >>> BITS) > (1 << shift)) {
+                newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, leaf);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, leaf);
+            }
+            size++;
+
+            return this;
+        }
+
+        /**
+         * Agrega al final todos los elementos del iterable dado.
+         *
+         * @param c Elementos a agregar.
+         *
+         * @return Este constructor.
+         */
+        public Builder<E> addAll(Iterable<? extends E> c) {
+            for (E e : c) {
+                add(e);
+            }
+
+            return this;
+        }
+
+        /**
+         * Cuelga la hoja dada en su posición, modificando en su lugar los
+         * nodos de este constructor.
+         */
+        protected Node pushTail(int level, Node parent, Node leaf) {
+            Node ret = editable(parent);
+            int i = ((size - 1) >>> level) & MASK;
+            Node child;
+
+            if (level == BITS) {
+                ret.array[i] = leaf;
+            } else {
+                child = (Node) ret.array[i];
+                ret.array[i] = child != null ? pushTail(level - BITS, child, leaf) : newPath(edit, level - BITS, leaf);
+            }
+
+            return ret;
+        }
+
+        /**
+         * Devuelve un vector con el contenido actual. Solo copia tail, de a
+         * lo más WIDTH elementos.
+         *
+         * @return El vector.
+         */
+        public PersistentVector<E> snapshot() {
+            if (size == 0) return PersistentVector.empty();
+
+            // Desde ahora los nodos de este constructor son del vector.
+            edit = new Object();
+
+            return new PersistentVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb;
+
+        if (size == 0) return "[]";
+
+        sb = new StringBuilder();
+
+        sb.append("[");
+        for (E e : this) {
+            sb.append(e);
+            sb.append(" ");
+        }
+        sb.setCharAt(sb.length() - 1, ']');
+
+        return sb.toString();
+    }
+}
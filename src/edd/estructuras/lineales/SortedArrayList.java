@@ -0,0 +1,313 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Implementación de un ArrayList que mantiene sus elementos ordenados según
+ * un comparador. Las búsquedas usan búsqueda binaria y cada inserción corre
+ * en un solo bloque los elementos mayores.
+ *
+ * Los elementos iguales según el comparador conservan su orden de
+ * inserción. Los métodos por índice heredados solo aceptan valores que no
+ * rompan el orden.
+ *
+ * @author mindahrelfen
+ */
+public class SortedArrayList<E> extends ArrayList<E> {
+
+    /**
+     * Criterio de orden de la lista.
+     */
+    protected final Comparator<? super E> comparator;
+
+    /**
+     * Construye una lista vacía con el orden natural de los elementos.
+     */
+    public SortedArrayList() {
+        this(null);
+    }
+
+    /**
+     * Construye una lista vacía ordenada por el comparador dado.
+     *
+     * @param comparator Criterio de orden, null para el orden natural.
+     */
+    public SortedArrayList(Comparator<? super E> comparator) {
+        this(CAPACITY, comparator);
+    }
+
+    /**
+     * Construye una lista vacía con capacidad inicial ordenada por el
+     * comparador dado.
+     *
+     * @param capacity Capacidad inicial de la lista.
+     * @param comparator Criterio de orden, null para el orden natural.
+     */
+    public SortedArrayList(int capacity, Comparator<? super E> comparator) {
+        super(capacity);
+        this.comparator = comparator != null ? comparator : (Comparator<? super E>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Devuelve el criterio de orden de la lista.
+     *
+     * @return El comparador con que se ordenan los elementos.
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Busca el primer índice cuyo elemento no es menor que e.
+     *
+     * @param e Elemento a buscar.
+     *
+     * @return Un índice entre 0 y size().
+     */
+    protected int lowerBound(E e) {
+        int lo = 0, hi = size, mid;
+
+        while (lo < hi) {
+            mid = (lo + hi) >>> 1;
+            if (comparator.compare(array[mid], e) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * Busca el primer índice cuyo elemento es mayor que e.
+     *
+     * @param e Elemento a buscar.
+     *
+     * @return Un índice entre 0 y size().
+     */
+    protected int upperBound(E e) {
+        int lo = 0, hi = size, mid;
+
+        while (lo < hi) {
+            mid = (lo + hi) >>> 1;
+            if (comparator.compare(array[mid], e) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * Revisa que el elemento dado pueda quedar en el índice dado sin romper el
+     * orden, si no lanza una excepción IllegalArgumentException.
+     *
+     * @param index Índice donde quedaría el elemento.
+     * @param e Elemento a revisar.
+     * @param replace Si el elemento reemplaza al que está en index.
+     */
+    protected void checkOrder(int index, E e, boolean replace) throws IllegalArgumentException {
+        int next = replace ? index + 1 : index;
+
+        if ((index > 0 && comparator.compare(array[index - 1], e) > 0)
+                || (next < size && comparator.compare(e, array[next]) > 0)) {
+            throw new IllegalArgumentException("Elemento fuera de orden en el indice " + index + ": " + e);
+        }
+    }
+
+    /**
+     * Inserta el elemento en su lugar según el orden, después de los
+     * elementos iguales.
+     *
+     * @param e Elemento a insertar.
+     *
+     * @return El índice donde quedó el elemento.
+     */
+    public int add(E e) {
+        int index = upperBound(e);
+
+        super.add(index, e);
+
+        return index;
+    }
+
+    /**
+     * Inserta el elemento en el índice dado solo si no rompe el orden. A
+     * diferencia de List, no acepta cualquier índice válido: el elemento debe
+     * ser mayor o igual al anterior y menor o igual al siguiente. Para
+     * insertar en el lugar que toca según el orden se usa add(E).
+     *
+     * @throws IllegalArgumentException Si el elemento no va en ese índice.
+     */
+    @Override
+    public void add(int index, E e) throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkIndex(index, size + 1);
+        checkOrder(index, e, false);
+
+        super.add(index, e);
+    }
+
+    /**
+     * Modifica el elemento en el índice dado solo si no rompe el orden.
+     *
+     * @throws IllegalArgumentException Si el elemento no va en ese índice.
+     */
+    @Override
+    public E set(int index, E e) throws IndexOutOfBoundsException, IllegalArgumentException {
+        checkIndex(index, size);
+        checkOrder(index, e, true);
+
+        return super.set(index, e);
+    }
+
+    /**
+     * Agrega todos los elementos en su lugar según el orden, los iguales
+     * quedan después de los que ya estaban.
+     *
+     * Los elementos nuevos se ordenan entre ellos y se mezclan en un arreglo
+     * auxiliar con los anteriores a partir de donde va el menor de ellos.
+     * Ese arreglo se copia a la lista solo al terminar, así si el comparador
+     * lanza una excepción la lista no cambia.
+     *
+     * @param c Elementos a agregar.
+     */
+    public void addAll(Iterable<? extends E> c) {
+        E[] elems = (E[]) toArray(c);
+        E[] merged;
+        int from, i, j, k;
+
+        if (elems.length == 0) return;
+
+        Arrays.sort(elems, comparator);
+        from = upperBound(elems[0]);
+        merged = (E[]) new Object[size - from + elems.length];
+
+        // En empate se toma primero el anterior.
+        i = from;
+        j = 0;
+        k = 0;
+        while (j < elems.length) {
+            if (i < size && comparator.compare(array[i], elems[j]) <= 0) {
+                merged[k++] = array[i++];
+            } else {
+                merged[k++] = elems[j++];
+            }
+        }
+        while (i < size) {
+            merged[k++] = array[i++];
+        }
+
+        ensureCapacity(size + elems.length);
+        System.arraycopy(merged, 0, array, from, merged.length);
+        size += elems.length;
+    }
+
+    /**
+     * Agrega los elementos de la lista dada en su lugar según el orden, como
+     * addAll(Iterable). En una lista ordenada no tiene sentido agregarlos al
+     * final.
+     */
+    @Override
+    public void addAll(List<? extends E> l) {
+        addAll((Iterable<? extends E>) l);
+    }
+
+    /**
+     * Inserta los elementos a partir del índice dado solo si, en el orden en
+     * que los devuelve el iterable, no rompen el orden de la lista. Como con
+     * add(int, E), no acepta cualquier índice válido; para insertar cada
+     * elemento en su lugar se usa addAll(Iterable).
+     *
+     * @throws IllegalArgumentException Si los elementos no van en ese índice.
+     */
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) throws IndexOutOfBoundsException, IllegalArgumentException {
+        E[] elems;
+
+        checkIndex(index, size + 1);
+
+        elems = (E[]) toArray(c);
+        if (elems.length == 0) return;
+
+        for (int i = 1; i < elems.length; i++) {
+            if (comparator.compare(elems[i - 1], elems[i]) > 0) {
+                throw new IllegalArgumentException("Elemento fuera de orden en el indice " + (index + i) + ": " + elems[i]);
+            }
+        }
+        checkOrder(index, elems[0], false);
+        checkOrder(index, elems[elems.length - 1], false);
+
+        super.addAll(index, Arrays.asList(elems));
+    }
+
+    /**
+     * Busca el objeto con búsqueda binaria y revisa con equals los elementos
+     * iguales según el comparador. Si el objeto no se puede comparar con los
+     * elementos, por su clase o por ser null, devuelve -1.
+     */
+    @Override
+    public int indexOf(Object o) {
+        E e = (E) o;
+        int index;
+
+        if (size == 0) return -1;
+
+        // Solo la primera comparación revisa si el objeto es comparable, las
+        // excepciones del comparador durante la búsqueda se propagan.
+        try {
+            comparator.compare(array[0], e);
+        } catch (ClassCastException | NullPointerException ex) {
+            return -1;
+        }
+
+        index = lowerBound(e);
+        while (index < size && comparator.compare(array[index], e) == 0) {
+            if (Objects.equals(o, array[index])) return index;
+            index++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Devuelve el mayor elemento menor o igual al dado.
+     *
+     * @param e Elemento a buscar.
+     *
+     * @return El elemento encontrado, o null si no hay.
+     */
+    public E floor(E e) {
+        int index = upperBound(e) - 1;
+        return index >= 0 ? array[index] : null;
+    }
+
+    /**
+     * Devuelve el menor elemento mayor o igual al dado.
+     *
+     * @param e Elemento a buscar.
+     *
+     * @return El elemento encontrado, o null si no hay.
+     */
+    public E ceiling(E e) {
+        int index = lowerBound(e);
+        return index < size ? array[index] : null;
+    }
+
+    /**
+     * La lista ya está ordenada, solo se acepta su propio comparador o null
+     * si usa el orden natural.
+     *
+     * @throws UnsupportedOperationException Si se pide otro orden.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        if (c != comparator && !(c == null && comparator == Comparator.naturalOrder())) {
+            throw new UnsupportedOperationException("Una lista ordenada no se puede reordenar");
+        }
+    }
+}
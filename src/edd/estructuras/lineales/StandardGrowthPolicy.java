@@ -0,0 +1,59 @@
+package edd.estructuras.lineales;
+
+/**
+ * Política de crecimiento que multiplica la capacidad actual por un factor,
+ * le suma un incremento fijo y la acota por una capacidad máxima.
+ *
+ * @author mindahrelfen
+ */
+public class StandardGrowthPolicy implements GrowthPolicy {
+
+    /**
+     * Factor por el cual se multiplica la capacidad actual.
+     */
+    protected final double factor;
+
+    /**
+     * Incremento que se suma tras multiplicar por el factor.
+     */
+    protected final int step;
+
+    /**
+     * Capacidad máxima permitida.
+     */
+    protected final int maxCapacity;
+
+    /**
+     * Construye una política de crecimiento.
+     *
+     * @param factor Factor de crecimiento, mayor o igual a uno.
+     * @param step Incremento aditivo, mayor o igual a cero.
+     * @param maxCapacity Capacidad máxima, entre uno y {@value GrowthPolicy#MAX_CAPACITY}.
+     */
+    public StandardGrowthPolicy(double factor, int step, int maxCapacity) {
+        if (!(factor >= 1.0) || step < 0 || maxCapacity < 1 || maxCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Parametros de crecimiento ilegales");
+        }
+        this.factor = factor;
+        this.step = step;
+        this.maxCapacity = maxCapacity;
+    }
+
+    @Override
+    public int newCapacity(int capacity, int minCapacity) throws IllegalStateException {
+        double grown;
+
+        if (minCapacity < 0 || minCapacity > maxCapacity) {
+            throw new IllegalStateException("Capacidad maxima excedida: " + minCapacity);
+        }
+
+        grown = capacity * factor + step;
+
+        return (int) Math.max(minCapacity, Math.min(grown, maxCapacity));
+    }
+
+    @Override
+    public String toString() {
+        return "x" + factor + " +" + step + " <=" + maxCapacity;
+    }
+}
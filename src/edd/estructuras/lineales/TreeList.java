@@ -0,0 +1,542 @@
+package edd.estructuras.lineales;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementación de una lista sobre un árbol AVL ordenado por posición. Cada
+ * nodo guarda el tamaño de su subárbol, así el índice de un elemento se
+ * deduce al descender y get, set, add y remove son O(log n).
+ *
+ * @author mindahrelfen
+ */
+public class TreeList<E> implements List<E> {
+
+    /**
+     * Raíz del árbol.
+     */
+    protected Node<E> root;
+
+    /**
+     * Construye una lista vacía.
+     */
+    public TreeList() {
+        root = null;
+    }
+
+    /**
+     * Devuelve el tamaño del subárbol dado.
+     *
+     * @param node Node Raíz del subárbol, puede ser null.
+     *
+     * @return int Cantidad de nodos del subárbol.
+     */
+    protected static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Devuelve la altura del subárbol dado.
+     *
+     * @param node Node Raíz del subárbol, puede ser null.
+     *
+     * @return int Altura del subárbol, cero si está vacío.
+     */
+    protected static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Recalcula la altura y el tamaño del nodo dado a partir de sus hijos.
+     *
+     * @param node Node Nodo a actualizar.
+     */
+    protected static void update(Node<?> node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    /**
+     * Rota a la derecha el subárbol dado.
+     *
+     * @param node Node Raíz del subárbol.
+     *
+     * @return Node Nueva raíz del subárbol.
+     */
+    protected static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    /**
+     * Rota a la izquierda el subárbol dado.
+     *
+     * @param node Node Raíz del subárbol.
+     *
+     * @return Node Nueva raíz del subárbol.
+     */
+    protected static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    /**
+     * Actualiza el nodo dado y lo rebalancea si la diferencia de alturas de
+     * sus hijos es mayor a uno.
+     *
+     * @param node Node Raíz del subárbol.
+     *
+     * @return Node Nueva raíz del subárbol.
+     */
+    protected static <E> Node<E> balance(Node<E> node) {
+        int factor;
+
+        update(node);
+        factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Obtiene el nodo en el índice dado.
+     *
+     * @param index int Índice válido del nodo a buscar.
+     *
+     * @return Node Devuelve el nodo.
+     */
+    protected Node<E> getNode(int index) {
+        Node<E> current = root;
+        int leftSize;
+
+        while (true) {
+            leftSize = size(current.left);
+            if (index < leftSize) {
+                current = current.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                current = current.right;
+            } else {
+                return current;
+            }
+        }
+    }
+
+    /**
+     * Inserta un elemento en el índice dado del subárbol.
+     *
+     * @param node Node Raíz del subárbol, puede ser null.
+     * @param index int Índice dentro del subárbol.
+     * @param e E Elemento a insertar.
+     *
+     * @return Node Nueva raíz del subárbol.
+     */
+    protected Node<E> insert(Node<E> node, int index, E e) {
+        int leftSize;
+
+        if (node == null) return new Node<E>(e);
+
+        leftSize = size(node.left);
+        if (index <= leftSize) {
+            node.left = insert(node.left, index, e);
+        } else {
+            node.right = insert(node.right, index - leftSize - 1, e);
+        }
+
+        return balance(node);
+    }
+
+    /**
+     * Borra el elemento en el índice dado del subárbol.
+     *
+     * @param node Node Raíz del subárbol.
+     * @param index int Índice válido dentro del subárbol.
+     *
+     * @return Node Nueva raíz del subárbol.
+     */
+    protected Node<E> delete(Node<E> node, int index) {
+        Node<E> min;
+        int leftSize;
+
+        leftSize = size(node.left);
+        if (index < leftSize) {
+            node.left = delete(node.left, index);
+        } else if (index > leftSize) {
+            node.right = delete(node.right, index - leftSize - 1);
+        } else {
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+
+            // Se sustituye por el sucesor, el primer nodo del subárbol derecho.
+            min = node.right;
+            while (min.left != null) {
+                min = min.left;
+            }
+            node.elem = min.elem;
+            node.right = delete(node.right, 0);
+        }
+
+        return balance(node);
+    }
+
+    /**
+     * Construye un árbol perfectamente balanceado con los elementos del
+     * arreglo en el rango [lo, hi).
+     *
+     * @param elems Object[] Elementos en orden.
+     * @param lo int Primer índice del rango.
+     * @param hi int Índice siguiente al último del rango.
+     *
+     * @return Node Raíz del árbol construido, null si el rango está vacío.
+     */
+    protected Node<E> build(Object[] elems, int lo, int hi) {
+        Node<E> node;
+        int mid;
+
+        if (lo >= hi) return null;
+
+        mid = (lo + hi) >>> 1;
+        node = new Node<E>((E) elems[mid]);
+        node.left = build(elems, lo, mid);
+        node.right = build(elems, mid + 1, hi);
+        update(node);
+
+        return node;
+    }
+
+    /**
+     * Decide si conviene reconstruir el árbol completo en lugar de hacer m
+     * inserciones o borrados de O(log n) cada uno.
+     *
+     * @param m int Cantidad de elementos a insertar o borrar.
+     * @param n int Tamaño del árbol resultante más grande.
+     *
+     * @return boolean true si reconstruir en O(n) es más barato.
+     */
+    protected static boolean rebuild(int m, int n) {
+        return (long) m * (32 - Integer.numberOfLeadingZeros(n)) > n;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de esta lista.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+
+        return getNode(index).elem;
+    }
+
+    @Override
+    public E set(int index, E e) {
+        Node<E> node;
+        E oldValue;
+
+        checkIndex(index, size());
+
+        node = getNode(index);
+        oldValue = node.elem;
+        node.elem = e;
+
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, E e) {
+        checkIndex(index, size() + 1);
+
+        root = insert(root, index, e);
+    }
+
+    @Override
+    public E remove(int index) {
+        E e;
+
+        checkIndex(index, size());
+
+        e = getNode(index).elem;
+        root = delete(root, index);
+
+        return e;
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) {
+        ArrayList<E> elems;
+        Object[] all;
+        int m, n;
+
+        checkIndex(index, size() + 1);
+
+        elems = new ArrayList<>();
+        elems.addAll(0, c);
+        m = elems.size();
+        n = size();
+
+        if (!rebuild(m, n + m)) {
+            for (int i = 0; i < m; i++) {
+                root = insert(root, index + i, elems.array[i]);
+            }
+            return;
+        }
+
+        all = new Object[n + m];
+        fill(root, all, 0);
+        System.arraycopy(all, index, all, index + m, n - index);
+        System.arraycopy(elems.array, 0, all, index, m);
+        root = build(all, 0, n + m);
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        Object[] all;
+        int n;
+
+        n = size();
+        if (from < 0 || to > n || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+
+        if (!rebuild(to - from, n)) {
+            for (int i = from; i < to; i++) {
+                root = delete(root, from);
+            }
+            return;
+        }
+
+        all = new Object[n];
+        fill(root, all, 0);
+        System.arraycopy(all, to, all, from, n - to);
+        root = build(all, 0, n - (to - from));
+    }
+
+    /**
+     * Copia en orden los elementos del subárbol al arreglo dado.
+     *
+     * @param node Node Raíz del subárbol, puede ser null.
+     * @param elems Object[] Arreglo destino.
+     * @param start int Posición donde se copia el primer elemento.
+     *
+     * @return int Posición siguiente al último elemento copiado.
+     */
+    protected static int fill(Node<?> node, Object[] elems, int start) {
+        while (node != null) {
+            start = fill(node.left, elems, start);
+            elems[start++] = node.elem;
+            node = node.right;
+        }
+        return start;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeListIterator();
+    }
+
+    /**
+     * Implementación de un nodo del árbol. Es una clase estática para no
+     * guardar una referencia a la lista en cada nodo.
+     */
+    protected static class Node<E> {
+
+        /**
+         * Referencia al hijo izquierdo.
+         */
+        protected Node<E> left;
+
+        /**
+         * Referencia al hijo derecho.
+         */
+        protected Node<E> right;
+
+        /**
+         * Referencia al valor que este nodo guarda.
+         */
+        protected E elem;
+
+        /**
+         * Altura del subárbol con raíz en este nodo.
+         */
+        protected int height;
+
+        /**
+         * Cantidad de nodos del subárbol con raíz en este nodo.
+         */
+        protected int size;
+
+        /*
+         * Constructor de una hoja que almacena un elemento de tipo genérico.
+         */
+        public Node(E elem) {
+            this.elem = elem;
+            this.height = 1;
+            this.size = 1;
+        }
+
+        @Override
+        public String toString() {
+            return "<" + elem + ">";
+        }
+    }
+
+    /**
+     * Iterador en orden que guarda el camino desde la raíz hasta el nodo
+     * siguiente, así avanzar cuesta O(1) amortizado.
+     */
+    protected class TreeListIterator implements Iterator<E> {
+
+        /**
+         * Pila con los ancestros pendientes de visitar. El tope es el nodo que
+         * contiene el valor resultante de invocar next.
+         */
+        protected Node<E>[] stack;
+
+        /**
+         * Cantidad de nodos en la pila.
+         */
+        protected int depth;
+
+        /**
+         * Índice del valor resultante de invocar next.
+         */
+        protected int index;
+
+        /**
+         * Bandera que dice si se puede borrar un elemento o no.
+         */
+        protected boolean canRemove;
+
+        /**
+         * Crea un iterador que apunta al primer elemento.
+         */
+        public TreeListIterator() {
+            index = 0;
+            canRemove = false;
+            seek(0);
+        }
+
+        /**
+         * Reconstruye la pila para que el tope sea el nodo en el índice dado.
+         *
+         * @param i int Índice del siguiente valor a devolver.
+         */
+        protected void seek(int i) {
+            Node<E> current = root;
+            int leftSize;
+
+            stack = (Node<E>[]) new Node[height(root) + 1];
+            depth = 0;
+            while (current != null) {
+                leftSize = size(current.left);
+                if (i <= leftSize) {
+                    // Los nodos por los que se baja a la izquierda siguen
+                    // pendientes de visitar.
+                    stack[depth++] = current;
+                    if (i == leftSize) return;
+                    current = current.left;
+                } else {
+                    i -= leftSize + 1;
+                    current = current.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public E next() {
+            Node<E> node, current;
+
+            if (!hasNext()) throw new NoSuchElementException();
+
+            node = stack[--depth];
+            current = node.right;
+            while (current != null) {
+                stack[depth++] = current;
+                current = current.left;
+            }
+            index++;
+            canRemove = true;
+
+            return node.elem;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) throw new IllegalStateException();
+
+            // Borrar rebalancea el árbol, así que el camino se vuelve a
+            // calcular en O(log n).
+            index--;
+            TreeList.this.remove(index);
+            seek(index);
+            canRemove = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb;
+        Iterator<E> it;
+
+        if (isEmpty()) return "[]";
+
+        sb = new StringBuilder();
+        it = iterator();
+
+        sb.append("[");
+        while (it.hasNext()) {
+            sb.append(it.next());
+            if (it.hasNext()) sb.append(" ");
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,546 @@
+package edd.estructuras.lineales;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Implementación de una lista ligada desenrollada. Cada nodo guarda un
+ * arreglo de hasta chunkSize elementos, así los nodos ocupan mucho menos
+ * memoria por elemento que los de LinkedList y recorrer la lista visita
+ * posiciones contiguas de memoria.
+ *
+ * Un nodo lleno se parte en dos al insertar y un nodo se une con su
+ * siguiente al borrar cuando ambos caben en uno solo.
+ *
+ * @author mindahrelfen
+ */
+public class UnrolledLinkedList<E> implements List<E> {
+
+    /**
+     * Cantidad de elementos por nodo por defecto.
+     */
+    public static final int CHUNK_SIZE = 32;
+
+    /**
+     * Referencia al inicio de la lista.
+     */
+    protected Node<E> head;
+
+    /**
+     * Referencia al final de la lista.
+     */
+    protected Node<E> tail;
+
+    /**
+     * Cantidad de elementos dentro de esta Lista.
+     */
+    protected int size;
+
+    /**
+     * Cantidad máxima de elementos por nodo.
+     */
+    protected final int chunkSize;
+
+    /**
+     * Posición dentro del nodo que devolvió la última llamada a locate.
+     */
+    protected int offset;
+
+    /**
+     * Construye una lista vacía con nodos de {@value #CHUNK_SIZE} elementos.
+     */
+    public UnrolledLinkedList() {
+        this(CHUNK_SIZE);
+    }
+
+    /**
+     * Construye una lista vacía.
+     *
+     * @param chunkSize Cantidad máxima de elementos por nodo, al menos dos.
+     */
+    public UnrolledLinkedList(int chunkSize) {
+        if (chunkSize < 2) throw new IllegalArgumentException("Tamaño de nodo ilegal: " + chunkSize);
+
+        this.chunkSize = chunkSize;
+        // Se crean los nodos centinelas, que no guardan elementos
+        head = new Node<E>(0, null, null);
+        tail = new Node<E>(0, null, head);
+        head.next = tail;
+        size = 0;
+    }
+
+    /**
+     * Inserta un nodo vacío después del nodo dado.
+     *
+     * @param node Node Nodo referencia.
+     *
+     * @return Node El nodo nuevo.
+     */
+    protected Node<E> addAfter(Node<E> node) {
+        Node<E> newNode = new Node<E>(chunkSize, node.next, node);
+        node.next.previous = newNode;
+        node.next = newNode;
+        return newNode;
+    }
+
+    /**
+     * Desliga el nodo dado de la lista.
+     *
+     * @param node Node Nodo a desligar.
+     */
+    protected void unlink(Node<E> node) {
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+    }
+
+    /**
+     * Busca el nodo que contiene el elemento en el índice dado, recorriendo
+     * desde el extremo más cercano. La posición del elemento dentro del nodo
+     * queda en offset.
+     *
+     * @param index int Índice válido del elemento a buscar.
+     *
+     * @return Node El nodo que contiene al elemento.
+     */
+    protected Node<E> locate(int index) {
+        Node<E> current;
+        int start;
+
+        if (index < size / 2) {
+            current = head.next;
+            start = 0;
+            while (start + current.count <= index) {
+                start += current.count;
+                current = current.next;
+            }
+        } else {
+            current = tail.previous;
+            start = size - current.count;
+            while (start > index) {
+                current = current.previous;
+                start -= current.count;
+            }
+        }
+        offset = index - start;
+
+        return current;
+    }
+
+    /**
+     * Parte un nodo moviendo sus elementos a partir de la posición dada a un
+     * nodo nuevo que queda después de él.
+     *
+     * @param node Node Nodo a partir.
+     * @param at int Posición del primer elemento que se mueve al nodo nuevo.
+     *
+     * @return Node El nodo nuevo.
+     */
+    protected Node<E> split(Node<E> node, int at) {
+        Node<E> newNode = addAfter(node);
+
+        System.arraycopy(node.elems, at, newNode.elems, 0, node.count - at);
+        newNode.count = node.count - at;
+        for (int i = at; i < node.count; i++) {
+            node.elems[i] = null;
+        }
+        node.count = at;
+
+        return newNode;
+    }
+
+    /**
+     * Une el nodo dado con su siguiente si ambos caben en uno solo. Los
+     * elementos del siguiente se agregan al final del nodo dado.
+     *
+     * @param node Node Nodo a unir.
+     */
+    protected void merge(Node<E> node) {
+        Node<E> next = node.next;
+
+        if (node == head || node == tail || next == tail || node.count + next.count > chunkSize) return;
+
+        System.arraycopy(next.elems, 0, node.elems, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+    }
+
+    /**
+     * Borra el elemento en la posición dada de un nodo, desligando el nodo si
+     * queda vacío o uniéndolo con su siguiente si ambos caben en uno.
+     *
+     * @param node Node Nodo que contiene al elemento.
+     * @param off int Posición del elemento dentro del nodo.
+     *
+     * @return E El elemento borrado.
+     */
+    protected E removeAt(Node<E> node, int off) {
+        E e = node.elems[off];
+
+        System.arraycopy(node.elems, off + 1, node.elems, off, node.count - off - 1);
+        node.elems[--node.count] = null;
+        size--;
+
+        if (node.count == 0) {
+            unlink(node);
+        } else {
+            merge(node);
+        }
+
+        return e;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Revisa si el indice dado esta fuera del rango valido de indices de esta lista.
+     * Si el indice es invalido lanza una excepcion IndexOutOfBoundsException.
+     *
+     * @param index Indice a revisar
+     */
+    protected void checkIndex(int index, int max) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= max) {
+            throw new IndexOutOfBoundsException("Indice ilegal: " + index);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size);
+
+        return locate(index).elems[offset];
+    }
+
+    @Override
+    public E set(int index, E e) {
+        Node<E> node;
+        E oldValue;
+
+        checkIndex(index, size);
+
+        node = locate(index);
+        oldValue = node.elems[offset];
+        node.elems[offset] = e;
+
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, E e) {
+        Node<E> node;
+        int off;
+
+        checkIndex(index, size + 1);
+
+        if (index == size) {
+            node = tail.previous;
+            off = node.count;
+            if (node == head || off == chunkSize) {
+                node = addAfter(node);
+                off = 0;
+            }
+        } else {
+            node = locate(index);
+            off = offset;
+            if (node.count == chunkSize) {
+                split(node, chunkSize / 2);
+                if (off > node.count) {
+                    off -= node.count;
+                    node = node.next;
+                }
+            }
+        }
+
+        System.arraycopy(node.elems, off, node.elems, off + 1, node.count - off);
+        node.elems[off] = e;
+        node.count++;
+        size++;
+    }
+
+    @Override
+    public E remove(int index) {
+        Node<E> node;
+
+        checkIndex(index, size);
+
+        node = locate(index);
+
+        return removeAt(node, offset);
+    }
+
+    @Override
+    public void addAll(int index, Iterable<? extends E> c) {
+        Node<E> before, last;
+        int m;
+
+        checkIndex(index, size + 1);
+
+        if (c == this) {
+            ArrayList<E> copy = new ArrayList<>(size);
+            copy.addAll(0, this);
+            c = copy;
+        }
+
+        // Se parte el nodo en index para empalmar los nodos nuevos en medio.
+        if (index == size) {
+            before = tail.previous;
+        } else {
+            before = locate(index);
+            if (offset == 0) {
+                before = before.previous;
+            } else {
+                split(before, offset);
+            }
+        }
+
+        last = before;
+        m = 0;
+        for (E e : c) {
+            if (last == before || last.count == chunkSize) {
+                last = addAfter(last);
+            }
+            last.elems[last.count++] = e;
+            m++;
+        }
+        size += m;
+
+        merge(last);
+        merge(before);
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        Node<E> node, first, next;
+        int remaining, k, off;
+
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Rango ilegal: [" + from + ", " + to + ")");
+        }
+        if (from == to) return;
+
+        node = locate(from);
+        off = offset;
+        first = node.previous;
+        remaining = to - from;
+        while (remaining > 0) {
+            k = Math.min(node.count - off, remaining);
+            next = node.next;
+            if (k == node.count) {
+                unlink(node);
+            } else {
+                System.arraycopy(node.elems, off + k, node.elems, off, node.count - off - k);
+                for (int i = node.count - k; i < node.count; i++) {
+                    node.elems[i] = null;
+                }
+                node.count -= k;
+            }
+            remaining -= k;
+            node = next;
+            off = 0;
+        }
+        size -= to - from;
+
+        merge(first.next);
+        merge(first);
+    }
+
+    @Override
+    public void clear() {
+        head.next = tail;
+        tail.previous = head;
+        size = 0;
+    }
+
+    /**
+     * Copia los elementos a un arreglo, lo ordena y los escribe de vuelta
+     * nodo por nodo, sin cambiar cuántos elementos tiene cada nodo.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        E[] a = (E[]) new Object[size];
+        int i = 0;
+
+        for (Node<E> node = head.next; node != tail; node = node.next) {
+            System.arraycopy(node.elems, 0, a, i, node.count);
+            i += node.count;
+        }
+        Arrays.sort(a, c);
+
+        i = 0;
+        for (Node<E> node = head.next; node != tail; node = node.next) {
+            System.arraycopy(a, i, node.elems, 0, node.count);
+            i += node.count;
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    /**
+     * Implementación de un nodo doblemente ligado que guarda un arreglo de
+     * elementos. Es una clase estática para no guardar una referencia a la
+     * lista en cada nodo.
+     */
+    protected static class Node<E> {
+
+        /**
+         * Referencia al nodo anterior.
+         */
+        protected Node<E> previous;
+
+        /**
+         * Referencia al nodo siguiente.
+         */
+        protected Node<E> next;
+
+        /**
+         * Elementos que este nodo guarda en las posiciones [0, count).
+         */
+        protected E[] elems;
+
+        /**
+         * Cantidad de elementos que este nodo guarda.
+         */
+        protected int count;
+
+        /*
+         * Constructor de un nodo vacío que almacena:
+         * Un arreglo de elementos de la capacidad dada
+         * Una referencia al siguiente nodo
+         * Una referencia al nodo previo
+         */
+        public Node(int capacity, Node<E> next, Node<E> previous) {
+            this.elems = (E[]) new Object[capacity];
+            this.count = 0;
+            this.next = next;
+            this.previous = previous;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("<");
+            for (int i = 0; i < count; i++) {
+                sb.append(elems[i]);
+                if (i < count - 1) sb.append(" ");
+            }
+            return sb.append(">").toString();
+        }
+    }
+
+    /**
+     * Clase que implementa el Iterador de la clase UnrolledLinkedList.
+     */
+    protected class UnrolledLinkedListIterator implements Iterator<E> {
+
+        /**
+         * Nodo que contiene el valor resultante de invocar next.
+         */
+        protected Node<E> siguiente;
+
+        /**
+         * Posición dentro de siguiente del valor a devolver.
+         */
+        protected int index;
+
+        /**
+         * Bandera que dice si se puede borrar un elemento o no.
+         */
+        protected boolean canRemove;
+
+        /**
+         * Nodo del último valor devuelto.
+         */
+        protected Node<E> last;
+
+        /**
+         * Posición dentro de last del último valor devuelto.
+         */
+        protected int lastIndex;
+
+        /**
+         * Crea un iterador que apunta al primer elemento.
+         */
+        public UnrolledLinkedListIterator() {
+            siguiente = head.next;
+            index = 0;
+            canRemove = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return siguiente != tail;
+        }
+
+        @Override
+        public E next() {
+            E e;
+
+            if (!hasNext()) throw new NoSuchElementException();
+
+            last = siguiente;
+            lastIndex = index;
+            e = siguiente.elems[index++];
+            if (index == siguiente.count) {
+                siguiente = siguiente.next;
+                index = 0;
+            }
+            canRemove = true;
+
+            return e;
+        }
+
+        @Override
+        public void remove() {
+            Node<E> next;
+
+            if (!canRemove) throw new IllegalStateException();
+
+            // Al borrar, el siguiente valor queda en la misma posición del
+            // mismo nodo, a menos que el nodo se haya vaciado o terminado.
+            next = last.next;
+            removeAt(last, lastIndex);
+            if (last.count == 0) {
+                siguiente = next;
+                index = 0;
+            } else if (lastIndex < last.count) {
+                siguiente = last;
+                index = lastIndex;
+            } else {
+                siguiente = last.next;
+                index = 0;
+            }
+            canRemove = false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        Node<E> aux = head.next;
+
+        sb.append("[");
+        while (aux != tail) {
+            for (int i = 0; i < aux.count; i++) {
+                sb.append(aux.elems[i]);
+                if (i < aux.count - 1 || aux.next != tail) sb.append(" ");
+            }
+            aux = aux.next;
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+}
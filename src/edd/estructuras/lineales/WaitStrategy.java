@@ -0,0 +1,47 @@
+package edd.estructuras.lineales;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Estrategia con la que un hilo espera a que una estructura concurrente
+ * tenga espacio o elementos.
+ *
+ * @author mindahrelfen
+ */
+public interface WaitStrategy {
+
+    /**
+     * Espera activa, la menor latencia a cambio de ocupar el núcleo.
+     */
+    public static final WaitStrategy BUSY_SPIN = attempts -> Thread.onSpinWait();
+
+    /**
+     * Cede el núcleo a otros hilos en cada intento.
+     */
+    public static final WaitStrategy YIELD = attempts -> {
+        if (attempts < 64) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    };
+
+    /**
+     * Duerme el hilo por periodos que crecen al doble hasta un milisegundo.
+     */
+    public static final WaitStrategy PARK = attempts -> {
+        if (attempts < 64) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(1000L << Math.min(attempts - 64, 10));
+        }
+    };
+
+    /**
+     * Espera un momento antes del siguiente intento.
+     *
+     * @param attempts Cantidad de intentos fallidos hasta ahora, empieza en
+     * cero.
+     */
+    public void idle(int attempts);
+}
@@ -0,0 +1,73 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Clase que inicia el uso de pruebas unitarias para la clase
+ * ArrayLinkedList.
+ *
+ * @author mindahrelfen
+ */
+public class ArrayLinkedListTest extends ListaTestA {
+
+    @Override
+    protected List<String> getList() {
+        return new ArrayLinkedList<>(SMALL_RANGE);
+    }
+
+    @Test
+    public void compactTest() {
+        ArrayLinkedList<Integer> list;
+        java.util.List<Integer> expected;
+        int index, current;
+
+        startTest("Revisa que compact deje los nodos en orden de recorrido sin cambiar el contenido", 1.0, "add");
+
+        /**
+         * Inserta y borra en posiciones aleatorias para desordenar las
+         * posiciones de los nodos.
+         */
+        list = new ArrayLinkedList<>(SMALL_RANGE);
+        expected = new java.util.ArrayList<>();
+        for (int i = 0; i < range * SMALL_RANGE; i++) {
+            index = rdm.nextInt(expected.size() + 1);
+            list.add(index, i);
+            expected.add(index, i);
+            if (rdm.nextInt(3) == 0) {
+                index = rdm.nextInt(expected.size());
+                assertEquals(list.remove(index), expected.remove(index));
+            }
+        }
+
+        /**
+         * Revisa que el elemento en el índice i quede en la posición i + 1 y
+         * que la lista siga funcionando después.
+         */
+        list.compact();
+        current = list.next[ArrayLinkedList.SENTINEL];
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(current, i + 1);
+            assertEquals(list.get(i), expected.get(i));
+            current = list.next[current];
+        }
+        assertEquals(current, ArrayLinkedList.SENTINEL);
+
+        for (int i = 0; i < range; i++) {
+            list.add(0, -i);
+            expected.add(0, -i);
+        }
+        assertEquals(list.toString(), expected.toString().replace(",", ""));
+
+        addUp(1.0);
+        passed();
+    }
+}
@@ -8,6 +8,9 @@
 
 package edd.estructuras.lineales;
 
+import org.junit.Test;
+import static org.junit.Assert.*;
+
 /**
  * Clase que inicia el uso de pruebas unitarias para la clase ArrayList.
  *
@@ -19,4 +22,51 @@ public class ArrayListTest extends ListaTestA {
     protected List<String> getList() {
         return new ArrayList<>();
     }
+
+    @Test
+    public void capacityTest() {
+        ArrayList<String> list;
+
+        startTest("Revisa que la capacidad del arreglo crezca desde cero, respete ensureCapacity(int) y se reduzca con trimToSize()", 1.0, "add");
+
+        /**
+         * Inserta elementos en una lista de capacidad inicial cero con una
+         * política de crecimiento aditiva.
+         */
+        list = new ArrayList<>(0, new StandardGrowthPolicy(1.0, 3, range * 4));
+        rsgIt = rsg.iterator();
+        while (rsgIt.hasNext()) {
+            list.add(list.size(), rsgIt.next());
+            assertTrue(list.capacity() - list.size() < 3);
+        }
+
+        /**
+         * Reserva espacio de antemano y revisa que las inserciones no hagan
+         * crecer de nuevo el arreglo.
+         */
+        list.ensureCapacity(range * 2);
+        assertTrue(list.capacity() >= range * 2);
+        while (list.size() < range * 2) {
+            list.add(list.size(), new String());
+        }
+        assertTrue(list.capacity() >= range * 2 && list.capacity() < range * 2 + 3);
+
+        /**
+         * Borra la mitad de los elementos y reduce el arreglo.
+         */
+        list.removeRange(0, range);
+        list.trimToSize();
+        assertEquals(list.capacity(), range);
+
+        /**
+         * Revisa que no se pueda exceder la capacidad máxima.
+         */
+        try {
+            list.ensureCapacity(range * 4 + 1);
+            fail();
+        } catch (IllegalStateException e) {
+            addUp(1.0);
+            passed();
+        }
+    }
 }
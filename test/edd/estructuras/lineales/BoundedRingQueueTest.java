@@ -0,0 +1,256 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import edd.Calificador;
+
+/**
+ * Clase que agrega pruebas unitarias para la clase BoundedRingQueue.
+ *
+ * @author mindahrelfen
+ */
+public class BoundedRingQueueTest extends Calificador {
+
+    @Override
+    protected void setCategories() {
+        defineCategories(new String[] {
+            "offer",
+            "drain",
+            "concurrent"
+        }, new double[] {
+            0.3,
+            0.3,
+            0.4
+        });
+    }
+
+    @Test
+    public void offerTest() {
+        BoundedRingQueue<Integer> queue;
+        int capacity;
+
+        startTest("Revisa que offer y poll respeten el orden y la capacidad", 1.0, "offer");
+
+        try {
+            new BoundedRingQueue<Integer>(0);
+            fail();
+        } catch (IllegalArgumentException e) {
+        }
+        assertEquals(2, new BoundedRingQueue<Integer>(1).capacity());
+        assertEquals(8, new BoundedRingQueue<Integer>(5).capacity());
+        assertEquals(8, new BoundedRingQueue<Integer>(8).capacity());
+
+        /**
+         * Varias vueltas al arreglo circular con tamaños aleatorios.
+         */
+        capacity = rdm.nextInt(range) + 1;
+        queue = new BoundedRingQueue<>(capacity);
+        capacity = queue.capacity();
+        int next = 0, first = 0;
+        for (int round = 0; round < range; round++) {
+            int k = rdm.nextInt(capacity - queue.size() + 1);
+            for (int i = 0; i < k; i++) {
+                assertTrue(queue.offer(next++));
+            }
+            while (queue.size() < capacity) {
+                assertTrue(queue.offer(next++));
+            }
+            assertFalse(queue.offer(-1));
+            assertEquals(capacity, queue.size());
+            k = rdm.nextInt(capacity + 1);
+            for (int i = 0; i < k; i++) {
+                assertEquals(first++, (int) queue.poll());
+            }
+            assertEquals(capacity - k, queue.size());
+        }
+        while (!queue.isEmpty()) {
+            assertEquals(first++, (int) queue.poll());
+        }
+        assertNull(queue.poll());
+        assertEquals(next, first);
+
+        try {
+            queue.offer((Integer) null);
+            fail();
+        } catch (NullPointerException e) {
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void drainTest() {
+        BoundedRingQueue<Integer> queue;
+        Integer[] elems;
+        int[] expected = new int[1];
+        int next = 0, added, drained;
+
+        startTest("Revisa que offer por bloques y drain agreguen y saquen en orden", 1.0, "drain");
+
+        queue = new BoundedRingQueue<>(range);
+        elems = new Integer[range * 2];
+        for (int round = 0; round < range * SMALL_RANGE; round++) {
+            int n = rdm.nextInt(elems.length + 1);
+            for (int i = 0; i < n; i++) {
+                elems[i] = next + i;
+            }
+            int space = queue.capacity() - queue.size();
+            added = queue.offer(elems, 0, n);
+            assertEquals(Math.min(n, space), added);
+            next += added;
+
+            int max = rdm.nextInt(range + 1);
+            int size = queue.size();
+            drained = queue.drain(e -> assertEquals(expected[0]++, (int) e), max);
+            assertEquals(Math.min(max, size), drained);
+            assertEquals(size - drained, queue.size());
+        }
+        queue.drain(e -> assertEquals(expected[0]++, (int) e), Integer.MAX_VALUE);
+        assertTrue(queue.isEmpty());
+        assertEquals(next, expected[0]);
+        assertEquals(0, queue.drain(e -> fail(), 1));
+
+        try {
+            queue.offer(elems, 1, 0);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+        }
+
+        /**
+         * Si la acción de drain lanza una excepción, las posiciones tomadas
+         * quedan libres para los productores.
+         */
+        queue = new BoundedRingQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        try {
+            queue.drain(e -> {
+                throw new IllegalStateException();
+            }, 4);
+            fail();
+        } catch (IllegalStateException e) {
+        }
+        assertTrue(queue.isEmpty());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, (int) queue.poll());
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        WaitStrategy[] strategies = {WaitStrategy.BUSY_SPIN, WaitStrategy.YIELD, WaitStrategy.PARK};
+
+        startTest("Revisa que varios productores y consumidores pasen cada elemento exactamente una vez con cada estrategia de espera", 1.0, "concurrent");
+
+        for (WaitStrategy wait : strategies) {
+            exchange(new BoundedRingQueue<>(SMALL_RANGE, wait), range * MEDIUM_RANGE);
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    /**
+     * Pasa valores por la cola con varios productores y consumidores, la
+     * mitad de ellos por bloques, y revisa que cada valor salga una vez y en
+     * orden respecto a su productor.
+     *
+     * @param queue Cola vacía.
+     * @param n Cantidad de valores de cada productor.
+     */
+    protected void exchange(BoundedRingQueue<Integer> queue, int n) throws InterruptedException {
+        AtomicIntegerArray received = new AtomicIntegerArray(n * SMALL_RANGE);
+        Thread[] producers = new Thread[SMALL_RANGE];
+        Thread[] consumers = new Thread[SMALL_RANGE];
+        int total = n * SMALL_RANGE / consumers.length;
+
+        for (int t = 0; t < producers.length; t++) {
+            int base = t * n;
+            boolean batch = t % 2 == 0;
+            producers[t] = new Thread(() -> {
+                Integer[] block = new Integer[SMALL_RANGE];
+                int i = 0;
+                while (i < n) {
+                    if (batch) {
+                        int k = Math.min(block.length, n - i);
+                        for (int j = 0; j < k; j++) {
+                            block[j] = base + i + j;
+                        }
+                        int added = queue.offer(block, 0, k);
+                        if (added == 0) Thread.yield();
+                        i += added;
+                    } else {
+                        queue.put(base + i++);
+                    }
+                }
+            });
+        }
+        for (int t = 0; t < consumers.length; t++) {
+            boolean batch = t % 2 == 0;
+            consumers[t] = new Thread(() -> {
+                int[] last = new int[SMALL_RANGE];
+                int[] count = new int[1];
+                java.util.Arrays.fill(last, -1);
+                while (count[0] < total) {
+                    if (batch) {
+                        if (queue.drain(v -> receive(received, last, v, n, count), total - count[0]) == 0) Thread.yield();
+                    } else {
+                        receive(received, last, queue.take(), n, count);
+                    }
+                }
+            });
+        }
+
+        for (Thread t : producers) {
+            t.start();
+        }
+        for (Thread t : consumers) {
+            t.start();
+        }
+        for (Thread t : producers) {
+            t.join();
+        }
+        for (Thread t : consumers) {
+            t.join();
+        }
+
+        for (int i = 0; i < received.length(); i++) {
+            assertEquals(1, received.get(i));
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    /**
+     * Registra un valor recibido por un consumidor. Los valores de un mismo
+     * productor deben llegar a cada consumidor en orden creciente.
+     */
+    protected static void receive(AtomicIntegerArray received, int[] last, int v, int n, int[] count) {
+        int producer = v / n;
+
+        assertTrue(v > last[producer]);
+        last[producer] = v;
+        received.incrementAndGet(v);
+        count[0]++;
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Clase que inicia el uso de pruebas unitarias para la clase
+ * CircularArrayList.
+ *
+ * @author mindahrelfen
+ */
+public class CircularArrayListTest extends ListaTestA {
+
+    @Override
+    protected List<String> getList() {
+        return new CircularArrayList<>(SMALL_RANGE);
+    }
+
+    @Test
+    public void queueTest() {
+        CircularArrayList<Integer> list;
+        int first;
+
+        startTest("Revisa que la lista funcione como cola al dar varias vueltas al arreglo sin crecer", 1.0, "remove");
+
+        /**
+         * Encola al final y desencola al inicio más veces que la capacidad
+         * del arreglo.
+         */
+        list = new CircularArrayList<>(SMALL_RANGE);
+        for (int i = 0; i < SMALL_RANGE - 1; i++) {
+            list.add(list.size(), i);
+        }
+        first = 0;
+        for (int i = SMALL_RANGE - 1; i < range * SMALL_RANGE; i++) {
+            list.add(list.size(), i);
+            assertEquals((int) list.remove(0), first++);
+        }
+
+        /**
+         * Revisa que el arreglo no haya crecido y que el contenido siga en
+         * orden.
+         */
+        assertEquals(list.capacity(), SMALL_RANGE);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals((int) list.get(i), first + i);
+        }
+
+        addUp(1.0);
+        passed();
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Clase que inicia el uso de pruebas unitarias para la clase
+ * ConcurrentArrayList.
+ *
+ * @author mindahrelfen
+ */
+public class ConcurrentArrayListTest extends ListaTestA {
+
+    @Override
+    protected List<String> getList() {
+        return new ConcurrentArrayList<>(SMALL_RANGE);
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        ConcurrentArrayList<Integer> list;
+        AtomicBoolean consistent;
+        Thread[] readers;
+        Thread writer;
+        int n;
+
+        startTest("Revisa que get, size, el iterador y stream lean valores consistentes mientras otro hilo escribe", 1.0, "get");
+
+        /**
+         * Un hilo agrega al final el valor de cada índice, borra el último y
+         * lo vuelve a agregar, así el arreglo crece y cambia mientras los
+         * lectores lo leen.
+         */
+        list = new ConcurrentArrayList<>(1);
+        n = range * LARGE_RANGE;
+        consistent = new AtomicBoolean(true);
+        writer = new Thread(() -> {
+            for (int i = 0; i < n; i++) {
+                list.add(list.size(), i);
+                list.remove(i);
+                list.add(i, i);
+            }
+        });
+
+        /**
+         * Cada lector revisa que todo valor leído coincida con su índice.
+         */
+        readers = new Thread[SMALL_RANGE];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                int size, count;
+                while (writer.isAlive() || list.size() < n) {
+                    size = list.size();
+                    try {
+                        if (size > 0 && list.get(size - 1) != size - 1) consistent.set(false);
+                    } catch (IndexOutOfBoundsException e) {
+                        // El escritor pudo borrar el último entre size y get.
+                    }
+                    count = 0;
+                    for (int v : list) {
+                        if (v != count++) consistent.set(false);
+                    }
+                    // El stream no debe fallar si el tamaño cambia a medio
+                    // recorrido.
+                    count = 0;
+                    try {
+                        for (Object v : list.stream().toArray()) {
+                            if ((int) v != count++) consistent.set(false);
+                        }
+                    } catch (IllegalStateException e) {
+                        consistent.set(false);
+                    }
+                }
+            });
+        }
+
+        writer.start();
+        for (Thread t : readers) {
+            t.start();
+        }
+        writer.join();
+        for (Thread t : readers) {
+            t.join();
+        }
+
+        assertTrue(consistent.get());
+        assertEquals(n, list.size());
+
+        addUp(1.0);
+        passed();
+    }
+}
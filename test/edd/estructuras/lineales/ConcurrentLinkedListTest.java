@@ -0,0 +1,188 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Clase que inicia el uso de pruebas unitarias para la clase
+ * ConcurrentLinkedList.
+ *
+ * @author mindahrelfen
+ */
+public class ConcurrentLinkedListTest extends ListaTestA {
+
+    @Override
+    protected List<String> getList() {
+        return new ConcurrentLinkedList<>();
+    }
+
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        ConcurrentLinkedList<Integer> list;
+        AtomicIntegerArray removed;
+        AtomicBoolean streamFailed;
+        Thread[] producers, consumers;
+        int n;
+
+        startTest("Revisa que varios hilos agreguen al final y borren con el iterador sin perder ni repetir elementos, y que stream no falle mientras tanto", 1.0, "remove");
+
+        /**
+         * Cada productor agrega al final su propio rango de valores, los
+         * consumidores recorren la lista y borran lo que encuentran.
+         */
+        list = new ConcurrentLinkedList<>();
+        n = range * LARGE_RANGE;
+        removed = new AtomicIntegerArray(n * SMALL_RANGE);
+        streamFailed = new AtomicBoolean(false);
+        producers = new Thread[SMALL_RANGE];
+        consumers = new Thread[SMALL_RANGE];
+        for (int t = 0; t < producers.length; t++) {
+            int base = t * n;
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < n; i++) {
+                    list.addLast(base + i);
+                }
+            });
+        }
+        for (int t = 0; t < consumers.length; t++) {
+            consumers[t] = new Thread(() -> {
+                Iterator<Integer> it;
+                int v;
+                while (!list.isEmpty() || anyAlive(producers)) {
+                    // El stream no debe fallar si otro consumidor borra a
+                    // medio recorrido.
+                    try {
+                        list.stream().toArray();
+                    } catch (IllegalStateException e) {
+                        streamFailed.set(true);
+                    }
+                    it = list.iterator();
+                    while (it.hasNext()) {
+                        v = it.next();
+                        try {
+                            it.remove();
+                            removed.incrementAndGet(v);
+                        } catch (IllegalStateException e) {
+                            // Otro consumidor lo borró primero.
+                        }
+                    }
+                }
+            });
+        }
+
+        for (Thread t : producers) {
+            t.start();
+        }
+        for (Thread t : consumers) {
+            t.start();
+        }
+        for (Thread t : producers) {
+            t.join();
+        }
+        for (Thread t : consumers) {
+            t.join();
+        }
+
+        /**
+         * Cada valor se borró exactamente una vez y la lista quedó vacía.
+         */
+        for (int i = 0; i < removed.length(); i++) {
+            assertEquals(1, removed.get(i));
+        }
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertNull(list.pollFirst());
+        assertFalse(streamFailed.get());
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void concurrentClearTest() throws InterruptedException {
+        ConcurrentLinkedList<Integer> list;
+        Thread[] producers;
+        Thread cleaner;
+        Iterator<Integer> it;
+        int n, seen;
+
+        startTest("Revisa que clear y removeRange no rompan la lista ni la cuenta mientras otros hilos agregan", 1.0, "remove");
+
+        /**
+         * Los productores agregan al final mientras otro hilo vacía la lista
+         * o borra rangos del inicio.
+         */
+        list = new ConcurrentLinkedList<>();
+        n = range * LARGE_RANGE;
+        producers = new Thread[SMALL_RANGE];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < n; i++) {
+                    list.addLast(i);
+                }
+            });
+        }
+        cleaner = new Thread(() -> {
+            while (anyAlive(producers)) {
+                if (list.size() > 1) {
+                    list.removeRange(0, list.size() / 2);
+                } else {
+                    list.clear();
+                }
+            }
+        });
+
+        for (Thread t : producers) {
+            t.start();
+        }
+        cleaner.start();
+        for (Thread t : producers) {
+            t.join();
+        }
+        cleaner.join();
+
+        /**
+         * La cuenta coincide con los nodos que quedaron, y al final clear
+         * deja la lista vacía y lista para usarse.
+         */
+        seen = 0;
+        for (it = list.iterator(); it.hasNext(); it.next()) {
+            seen++;
+        }
+        assertEquals(seen, list.size());
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        list.addLast(0);
+        assertEquals(1, list.size());
+
+        addUp(1.0);
+        passed();
+    }
+
+    /**
+     * Pregunta si alguno de los hilos dados sigue vivo.
+     *
+     * @param threads Hilos a revisar.
+     *
+     * @return Devuelve true si alguno no ha terminado.
+     */
+    protected static boolean anyAlive(Thread[] threads) {
+        for (Thread t : threads) {
+            if (t.isAlive()) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Clase que inicia el uso de pruebas unitarias para la clase
+ * CopyOnWriteArrayList.
+ *
+ * @author mindahrelfen
+ */
+public class CopyOnWriteArrayListTest extends ListaTestA {
+
+    @Override
+    protected List<String> getList() {
+        return new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    public void snapshotTest() throws InterruptedException {
+        CopyOnWriteArrayList<Integer> list;
+        Iterator<Integer> it;
+        Thread writer;
+        int n, count;
+        boolean consistent;
+
+        startTest("Revisa que los iteradores recorran una copia fija mientras otro hilo escribe", 1.0, "get");
+
+        /**
+         * Un iterador creado antes de escribir no ve las escrituras.
+         */
+        list = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < range; i++) {
+            list.add(i, i);
+        }
+        it = list.iterator();
+        list.clear();
+        count = 0;
+        while (it.hasNext()) {
+            assertEquals(count++, (int) it.next());
+        }
+        assertEquals(range, count);
+        assertTrue(list.isEmpty());
+
+        /**
+         * Un hilo agrega al final mientras este hilo recorre la lista, cada
+         * recorrido debe ver un prefijo completo de los valores agregados.
+         */
+        n = range * LARGE_RANGE;
+        consistent = true;
+        final CopyOnWriteArrayList<Integer> shared = list;
+        final int total = n;
+        writer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                shared.add(shared.size(), i);
+            }
+        });
+        writer.start();
+        while (writer.isAlive() || shared.size() < n) {
+            count = 0;
+            for (int v : shared) {
+                if (v != count++) consistent = false;
+            }
+        }
+        writer.join();
+        assertTrue(consistent);
+        assertEquals(n, shared.size());
+
+        addUp(1.0);
+        passed();
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Clase que inicia el uso de pruebas unitarias para la clase
+ * HashIndexedList.
+ *
+ * @author mindahrelfen
+ */
+public class HashIndexedListTest extends ListaTestA {
+
+    @Override
+    protected List<String> getList() {
+        return new HashIndexedList<>(new LinkedList<>());
+    }
+
+    @Test
+    public void rebuildTest() {
+        HashIndexedList<Integer> list;
+
+        startTest("Revisa que agregar y borrar al final no reconstruya el índice y que editar en medio sí", 1.0, "get");
+
+        /**
+         * Agrega al final consultando el índice en cada paso, nunca se
+         * reconstruye.
+         */
+        list = new HashIndexedList<>(new ArrayList<>());
+        for (int i = 0; i < range * SMALL_RANGE; i++) {
+            list.add(list.size(), i % range);
+            assertEquals(i % range, list.indexOf(i % range));
+        }
+        list.addAll(list);
+        list.remove(list.size() - 1);
+        assertEquals(range - 2, list.indexOf(range - 2));
+        assertEquals(0, list.rebuilds());
+        assertEquals(0, list.rebuildCost());
+        assertTrue(list.indexBytes() > 0);
+
+        /**
+         * Insertar al inicio recorre las posiciones, la siguiente consulta
+         * reconstruye el índice una sola vez.
+         */
+        list.add(0, -1);
+        assertEquals(2, list.indexOf(1));
+        assertEquals(0, list.indexOf(-1));
+        assertFalse(list.contains(range));
+        assertEquals(1, list.rebuilds());
+        assertEquals(list.size(), list.rebuildCost());
+
+        /**
+         * Borrar la primera aparición con set obliga a buscar la siguiente.
+         */
+        list.set(0, range);
+        assertEquals(0, list.indexOf(range));
+        assertFalse(list.contains(-1));
+        list.set(1, range);
+        assertEquals(range + 1, list.indexOf(0));
+
+        addUp(1.0);
+        passed();
+    }
+}
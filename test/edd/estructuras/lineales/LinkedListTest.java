@@ -8,6 +8,9 @@
 
 package edd.estructuras.lineales;
 
+import org.junit.Test;
+import static org.junit.Assert.*;
+
 /**
  * Clase que inicia el uso de pruebas unitarias para la clase Lista Doblemente
  * Ligada.
@@ -20,4 +23,47 @@ public class LinkedListTest extends ListaTestA {
     protected List<String> getList() {
         return new LinkedList<>();
     }
+
+    @Test
+    public void poolTest() {
+        LinkedList<Integer> list;
+        long misses;
+        int first;
+
+        startTest("Revisa que la reserva de nodos evite crear nodos al usar la lista como cola", 1.0, "remove");
+
+        /**
+         * Llena la lista y la vacía para llenar la reserva.
+         */
+        list = new LinkedList<>(SMALL_RANGE);
+        for (int i = 0; i < SMALL_RANGE; i++) {
+            list.add(list.size(), i);
+        }
+        while (!list.isEmpty()) {
+            list.remove(0);
+        }
+        misses = list.poolMisses();
+        assertEquals(misses, SMALL_RANGE);
+
+        /**
+         * Encola al final y desencola al inicio, todos los nodos deben salir
+         * de la reserva.
+         */
+        for (int i = 0; i < SMALL_RANGE - 1; i++) {
+            list.add(list.size(), i);
+        }
+        first = 0;
+        for (int i = SMALL_RANGE - 1; i < range * SMALL_RANGE; i++) {
+            list.add(list.size(), i);
+            assertEquals((int) list.remove(0), first++);
+        }
+        assertEquals(list.poolMisses(), misses);
+        assertEquals(list.poolHits(), range * SMALL_RANGE);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals((int) list.get(i), first + i);
+        }
+
+        addUp(1.0);
+        passed();
+    }
 }
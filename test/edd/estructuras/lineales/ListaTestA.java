@@ -9,9 +9,12 @@
 package edd.estructuras.lineales;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -309,8 +312,406 @@ public abstract class ListaTestA extends Calificador {
         }
     }
 
+    @Test
+    public void addAllTest() {
+        int index;
+        String s;
+        List<String> list, other;
+        java.util.List<String> expected;
+
+        startTest("Revisa que la estructura contenga en orden los elementos insertados con addAll(int, Iterable) y addAll(List)", 1.0, "add");
+
+        /**
+         * Inserta elementos en la estructura y en una lista de referencia.
+         */
+        list = getList();
+        other = getList();
+        expected = new java.util.ArrayList<>();
+        rsgIt = rsg.iterator();
+        while (rsgIt.hasNext()) {
+            s = rsgIt.next();
+            list.add(list.size(), s);
+            other.add(other.size(), s);
+            expected.add(s);
+        }
+
+        /**
+         * Inserta en bloque la otra lista en un índice aleatorio, al final y
+         * a la lista misma.
+         */
+        index = rdm.nextInt(list.size() + 1);
+        list.addAll(index, other);
+        expected.addAll(index, new java.util.ArrayList<>(expected));
+        list.addAll(other);
+        expected.addAll(expected.subList(index, index + range));
+        list.addAll(0, list);
+        expected.addAll(0, new java.util.ArrayList<>(expected));
+
+        /**
+         * Revisa que el contenido coincida con la lista de referencia.
+         */
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void listIteratorTest() {
+        int op;
+        String s;
+        List<String> list;
+        java.util.List<String> expected;
+        ListIterator<String> it, eit;
+
+        startTest("Revisa que listIterator(int) recorra en ambos sentidos e inserte, modifique y borre en el cursor", 1.0, "add");
+
+        /**
+         * Inserta elementos en la estructura y en una lista de referencia.
+         */
+        list = getList();
+        expected = new java.util.ArrayList<>();
+        rsgIt = rsg.iterator();
+        while (rsgIt.hasNext()) {
+            s = rsgIt.next();
+            list.add(list.size(), s);
+            expected.add(s);
+        }
+
+        /**
+         * Aplica la misma secuencia aleatoria de operaciones a ambos
+         * iteradores.
+         */
+        op = rdm.nextInt(list.size() + 1);
+        it = list.listIterator(op);
+        eit = expected.listIterator(op);
+        for (int i = 0; i < range * 4; i++) {
+            assertEquals(eit.nextIndex(), it.nextIndex());
+            assertEquals(eit.previousIndex(), it.previousIndex());
+            op = rdm.nextInt(5);
+            if (op == 0 && eit.hasNext()) {
+                assertEquals(eit.next(), it.next());
+                if (rdm.nextBoolean()) {
+                    it.set(Integer.toString(i));
+                    eit.set(Integer.toString(i));
+                }
+            } else if (op == 1 && eit.hasPrevious()) {
+                assertEquals(eit.previous(), it.previous());
+                if (rdm.nextBoolean()) {
+                    it.remove();
+                    eit.remove();
+                }
+            } else if (op == 2) {
+                it.add(Integer.toString(-i));
+                eit.add(Integer.toString(-i));
+            } else if (op == 3 && eit.hasNext()) {
+                assertEquals(eit.next(), it.next());
+                it.remove();
+                eit.remove();
+            }
+            assertEquals(eit.hasNext(), it.hasNext());
+            assertEquals(eit.hasPrevious(), it.hasPrevious());
+        }
+
+        /**
+         * Un next fallido al final no cambia el último valor devuelto, ni
+         * deja modificar o borrar si no había uno.
+         */
+        it = list.listIterator(list.size());
+        try {
+            it.next();
+            fail();
+        } catch (NoSuchElementException e) {
+        }
+        try {
+            it.set("X");
+            fail();
+        } catch (IllegalStateException e) {
+        }
+        try {
+            it.remove();
+            fail();
+        } catch (IllegalStateException e) {
+        }
+        if (!expected.isEmpty()) {
+            it = list.listIterator(list.size() - 1);
+            assertEquals(expected.get(expected.size() - 1), it.next());
+            try {
+                it.next();
+                fail();
+            } catch (NoSuchElementException e) {
+            }
+            it.set("X");
+            assertEquals("X", list.get(list.size() - 1));
+            it.remove();
+            expected.remove(expected.size() - 1);
+            assertFalse(it.hasNext());
+        }
+
+        /**
+         * Revisa que el contenido coincida con la lista de referencia.
+         */
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void indexOfTest() {
+        String s;
+        List<String> list;
+        java.util.List<String> expected;
+
+        startTest("Revisa que indexOf(Object) y contains(Object) encuentren la primera aparición de cada elemento", 1.0, "get");
+
+        /**
+         * Inserta elementos con repetidos en la estructura y en una lista de
+         * referencia.
+         */
+        list = getList();
+        expected = new java.util.ArrayList<>();
+        for (int i = 0; i < range * SMALL_RANGE; i++) {
+            s = Integer.toString(rdm.nextInt(range));
+            list.add(list.size(), s);
+            expected.add(s);
+        }
+
+        for (int i = -1; i <= range; i++) {
+            s = Integer.toString(i);
+            assertEquals(expected.indexOf(s), list.indexOf(s));
+            assertEquals(expected.contains(s), list.contains(s));
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void sortTest() {
+        String s;
+        List<String> list;
+        java.util.List<String> expected;
+        Comparator<String> byKey;
+
+        startTest("Revisa que sort(Comparator) ordene de forma estable, con orden natural si el comparador es null", 1.0, "set");
+
+        /**
+         * Inserta elementos con claves repetidas en la estructura y en una
+         * lista de referencia, cada elemento lleva su posición original para
+         * distinguir los empates.
+         */
+        list = getList();
+        expected = new java.util.ArrayList<>();
+        for (int i = 0; i < range * SMALL_RANGE; i++) {
+            s = rdm.nextInt(range) + ":" + i;
+            list.add(list.size(), s);
+            expected.add(s);
+        }
+
+        /**
+         * Ordena solo por la clave, así los empates revisan la estabilidad,
+         * y luego con el orden natural y el inverso.
+         */
+        byKey = Comparator.comparing(e -> e.substring(0, e.indexOf(':')));
+        list.sort(byKey);
+        expected.sort(byKey);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+
+        list.sort(null);
+        expected.sort(null);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+
+        list.sort(Comparator.reverseOrder());
+        expected.sort(Comparator.reverseOrder());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+
+        /**
+         * Revisa que la lista siga funcionando después de ordenar.
+         */
+        list.add(0, "x");
+        list.add(list.size(), "y");
+        list.remove(1);
+        expected.add(0, "x");
+        expected.add(expected.size(), "y");
+        expected.remove(1);
+        assertEquals(expected, list.stream().collect(Collectors.toList()));
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void sortFailureTest() {
+        List<String> list;
+        java.util.List<String> expected, actual;
+        Comparator<String> failing;
+        int[] budget = new int[1];
+        int n;
+
+        startTest("Revisa que la lista conserve sus elementos si el comparador de sort lanza una excepcion", 1.0, "set");
+
+        for (int k = 0; k < range; k++) {
+            list = getList();
+            expected = new java.util.ArrayList<>();
+            // Mas de 32 elementos para que TimSort llegue a mezclar tramos.
+            n = rdm.nextInt(range * MEDIUM_RANGE) + 2;
+            for (int i = 0; i < n; i++) {
+                list.add(list.size(), rdm.nextInt(range) + ":" + i);
+                expected.add(list.get(i));
+            }
+
+            /**
+             * El comparador falla despues de una cantidad aleatoria de
+             * comparaciones, a media mezcla.
+             */
+            budget[0] = rdm.nextInt(n * SMALL_RANGE) + 1;
+            failing = (a, b) -> {
+                if (--budget[0] == 0) throw new IllegalStateException("Comparador roto");
+                return a.compareTo(b);
+            };
+            try {
+                list.sort(failing);
+            } catch (IllegalStateException e) {
+            }
+
+            /**
+             * Mismo tamaño, los mismos elementos al recorrerla y por indice.
+             */
+            actual = new java.util.ArrayList<>();
+            for (String s : list) {
+                actual.add(s);
+            }
+            assertEquals(n, list.size());
+            assertEquals(n, actual.size());
+            for (int i = 0; i < n; i++) {
+                assertEquals(actual.get(i), list.get(i));
+            }
+            actual.sort(null);
+            expected.sort(null);
+            assertEquals(expected, actual);
+
+            /**
+             * La lista sigue funcionando y ya se puede ordenar.
+             */
+            list.add(0, "x");
+            list.remove(list.size() - 1);
+            list.sort(null);
+            assertEquals(n, list.stream().count());
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void streamTest() {
+        int n;
+        List<String> list;
+        java.util.List<String> expected;
+        Spliterator<String> split;
+        long sum;
+
+        startTest("Revisa que stream() y parallelStream() recorran todos los elementos en orden y que el spliterator conozca su tamaño", 1.0, "get");
+
+        /**
+         * Inserta suficientes elementos para que el spliterator se parta
+         * varias veces.
+         */
+        list = getList();
+        expected = new java.util.ArrayList<>();
+        n = range * 1000;
+        sum = 0;
+        for (int i = 0; i < n; i++) {
+            expected.add(Integer.toString(i));
+            sum += i;
+        }
+        list.addAll(0, expected);
+
+        split = list.spliterator();
+        assertTrue(split.hasCharacteristics(Spliterator.ORDERED));
+        if (split.hasCharacteristics(Spliterator.CONCURRENT)) {
+            // Otro hilo puede cambiar el tamaño, no debe prometerlo.
+            assertFalse(split.hasCharacteristics(Spliterator.SIZED));
+        } else {
+            assertTrue(split.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(split.hasCharacteristics(Spliterator.SUBSIZED));
+            assertEquals(n, split.estimateSize());
+        }
+
+        /**
+         * Revisa el recorrido secuencial y la reducción en paralelo.
+         */
+        assertEquals(expected, list.stream().collect(Collectors.toList()));
+        assertEquals(expected, list.parallelStream().collect(Collectors.toList()));
+        assertEquals(sum, list.parallelStream().mapToLong(Long::parseLong).sum());
+        assertEquals(n, list.parallelStream().count());
+
+        addUp(1.0);
+        passed();
+    }
+
     // remove
 
+    @Test
+    public void removeRangeTest() {
+        int from, to;
+        String s;
+        List<String> list;
+        java.util.List<String> expected;
+
+        startTest("Revisa que la estructura solo conserve los elementos fuera del rango borrado con removeRange(int, int) y quede vacía tras clear()", 1.0, "remove");
+
+        /**
+         * Inserta elementos en la estructura y en una lista de referencia.
+         */
+        list = getList();
+        expected = new java.util.ArrayList<>();
+        rsgIt = rsg.iterator();
+        while (rsgIt.hasNext()) {
+            s = rsgIt.next();
+            list.add(list.size(), s);
+            expected.add(s);
+        }
+
+        /**
+         * Borra un rango aleatorio y revisa el contenido restante.
+         */
+        from = rdm.nextInt(list.size() + 1);
+        to = from + rdm.nextInt(list.size() - from + 1);
+        list.removeRange(from, to);
+        expected.subList(from, to).clear();
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+
+        /**
+         * Vacía la estructura y revisa que pueda volver a usarse.
+         */
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+        list.add(0, new String());
+        assertEquals(list.size(), 1);
+
+        addUp(1.0);
+        passed();
+    }
+
     @Test
     public void removeTest() {
         String s;
@@ -0,0 +1,205 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Clase que inicia el uso de pruebas unitarias para la clase MappedList.
+ *
+ * @author mindahrelfen
+ */
+public class MappedListTest extends ListaTestA {
+
+    /**
+     * Crea un archivo temporal que se borra al terminar las pruebas.
+     *
+     * @return File Archivo vacío.
+     */
+    private File tempFile() {
+        File f;
+
+        try {
+            f = File.createTempFile("mapped", ".dat");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        f.deleteOnExit();
+
+        return f;
+    }
+
+    @Override
+    protected List<String> getList() {
+        try {
+            return new MappedList<>(tempFile().toPath(), Codec.string(16), 5);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    public void reopenTest() throws IOException {
+        File f;
+        MappedList<String> list;
+        java.util.List<String> expected;
+        String s;
+
+        startTest("Revisa que la lista conserve sus elementos al cerrarla y volver a abrir el archivo", 1.0, "add");
+
+        /**
+         * Inserta elementos y borra algunos antes de cerrar.
+         */
+        f = tempFile();
+        list = new MappedList<>(f.toPath(), Codec.string(16), 5);
+        expected = new java.util.ArrayList<>();
+        rsgIt = rsg.iterator();
+        while (rsgIt.hasNext()) {
+            s = rsgIt.next();
+            list.add(list.size(), s);
+            expected.add(s);
+        }
+        list.remove(0);
+        expected.remove(0);
+        list.close();
+
+        /**
+         * Abre de nuevo el archivo con otro tamaño de bloque, el cual debe
+         * ignorarse, y revisa el contenido.
+         */
+        list = new MappedList<>(f.toPath(), Codec.string(16), 7);
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        list.close();
+
+        /**
+         * Un codificador de otro ancho no puede abrir el archivo.
+         */
+        try {
+            new MappedList<>(f.toPath(), Codec.LONG);
+        } catch (IOException e) {
+            addUp(1.0);
+            passed();
+        }
+    }
+
+    @Test
+    public void badHeaderTest() throws IOException {
+        File f;
+        ByteBuffer header;
+        byte[][] files;
+        int failures;
+
+        startTest("Revisa que un archivo ajeno, truncado o con encabezado dañado se rechace con IOException", 1.0, "get");
+
+        /**
+         * Encabezado válido de una lista vacía de String de ancho 16 en bloques
+         * de 5, que después se daña de varias formas.
+         */
+        header = ByteBuffer.allocate(MappedList.HEADER_SIZE);
+        header.putInt(0, MappedList.MAGIC);
+        header.putInt(4, MappedList.VERSION);
+        header.putInt(8, 16);
+        header.putInt(12, 5);
+        header.putLong(16, 0L);
+
+        files = new byte[6][];
+        files[0] = "Esto no es una lista, es un archivo de texto.".getBytes();
+        files[1] = java.util.Arrays.copyOf(header.array(), 10);
+        files[2] = header.array().clone();
+        ByteBuffer.wrap(files[2]).putInt(12, Integer.MAX_VALUE);
+        files[3] = header.array().clone();
+        ByteBuffer.wrap(files[3]).putInt(12, -1);
+        files[4] = header.array().clone();
+        ByteBuffer.wrap(files[4]).putLong(16, 1L << 40);
+        files[5] = header.array().clone();
+        ByteBuffer.wrap(files[5]).putInt(4, MappedList.VERSION + 1);
+
+        failures = 0;
+        for (byte[] content : files) {
+            f = tempFile();
+            Files.write(f.toPath(), content);
+            try {
+                new MappedList<>(f.toPath(), Codec.string(16)).close();
+            } catch (IOException e) {
+                failures++;
+            }
+            // Un archivo rechazado no debe modificarse.
+            assertArrayEquals(content, Files.readAllBytes(f.toPath()));
+        }
+        assertEquals(files.length, failures);
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void rejectedElementTest() throws IOException {
+        File f;
+        MappedList<String> list;
+        java.util.List<String> expected;
+        ArrayList<String> more;
+        String s, tooLong;
+
+        startTest("Revisa que un elemento rechazado por el codificador no cambie el archivo", 1.0, "add");
+
+        /**
+         * Inserta elementos y luego intenta agregar cadenas que no caben.
+         */
+        f = tempFile();
+        list = new MappedList<>(f.toPath(), Codec.string(16), 5);
+        expected = new java.util.ArrayList<>();
+        rsgIt = rsg.iterator();
+        while (rsgIt.hasNext()) {
+            s = rsgIt.next();
+            list.add(list.size(), s);
+            expected.add(s);
+        }
+        tooLong = "cadena de mas de dieciseis bytes";
+        try {
+            list.add(rdm.nextInt(list.size() + 1), tooLong);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Esperado.
+        }
+        more = new ArrayList<>();
+        more.add(0, "a");
+        more.add(1, tooLong);
+        more.add(2, "b");
+        try {
+            list.addAll(rdm.nextInt(list.size() + 1), more);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Esperado.
+        }
+        list.close();
+
+        /**
+         * Al abrir de nuevo el archivo el contenido es el de antes.
+         */
+        list = new MappedList<>(f.toPath(), Codec.string(16));
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        list.close();
+
+        addUp(1.0);
+        passed();
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Clase que inicia el uso de pruebas unitarias para la clase OffHeapList.
+ *
+ * Se usan bloques pequeños para que los corrimientos crucen bordes de bloque.
+ *
+ * @author mindahrelfen
+ */
+public class OffHeapListTest extends ListaTestA {
+
+    @Override
+    protected List<String> getList() {
+        return new OffHeapList<>(Codec.string(16), 5);
+    }
+
+    @Test
+    public void closeTest() {
+        OffHeapList<String> list;
+
+        startTest("Revisa que tras close() la lista no pueda usarse", 1.0, "remove");
+
+        list = new OffHeapList<>(Codec.string(16), 5);
+        rsgIt = rsg.iterator();
+        while (rsgIt.hasNext()) {
+            list.add(list.size(), rsgIt.next());
+        }
+        list.close();
+        list.close();
+
+        try {
+            list.get(0);
+        } catch (IllegalStateException e) {
+            addUp(1.0);
+            passed();
+        }
+    }
+
+    @Test
+    public void rejectedElementTest() {
+        OffHeapList<String> list;
+        OffHeapList<Integer> ints;
+        java.util.List<String> expected;
+        ArrayList<String> more;
+        String s, tooLong;
+        int failures;
+
+        startTest("Revisa que la lista no cambie si el codificador rechaza un elemento de add o addAll", 1.0, "add");
+
+        /**
+         * Inserta elementos en la estructura y en una lista de referencia.
+         */
+        list = new OffHeapList<>(Codec.string(16), 5);
+        expected = new java.util.ArrayList<>();
+        rsgIt = rsg.iterator();
+        while (rsgIt.hasNext()) {
+            s = rsgIt.next();
+            list.add(list.size(), s);
+            expected.add(s);
+        }
+
+        /**
+         * Intenta insertar cadenas que no caben en el ancho del codificador,
+         * solas o a la mitad de un bloque de elementos válidos.
+         */
+        tooLong = "cadena de mas de dieciseis bytes";
+        failures = 0;
+        for (int i = 0; i < range; i++) {
+            try {
+                list.add(rdm.nextInt(list.size() + 1), tooLong);
+            } catch (IllegalArgumentException e) {
+                failures++;
+            }
+            more = new ArrayList<>();
+            for (int j = 0; j < SMALL_RANGE; j++) {
+                more.add(more.size(), Integer.toString(j));
+            }
+            more.add(rdm.nextInt(more.size() + 1), tooLong);
+            try {
+                list.addAll(rdm.nextInt(list.size() + 1), more);
+            } catch (IllegalArgumentException e) {
+                failures++;
+            }
+        }
+        assertEquals(2 * range, failures);
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+
+        /**
+         * Codec.INT rechaza null al convertirlo a int.
+         */
+        ints = new OffHeapList<>(Codec.INT, 5);
+        for (int i = 0; i < range; i++) {
+            ints.add(i, i);
+        }
+        try {
+            ints.add(0, null);
+            fail();
+        } catch (NullPointerException e) {
+            // Esperado.
+        }
+        assertEquals(range, ints.size());
+        for (int i = 0; i < range; i++) {
+            assertEquals(i, (int) ints.get(i));
+        }
+
+        list.close();
+        ints.close();
+
+        addUp(1.0);
+        passed();
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import edd.Calificador;
+
+/**
+ * Clase que agrega pruebas unitarias para las operaciones paralelas sobre
+ * ArrayList.
+ *
+ * @author mindahrelfen
+ */
+public class ParallelListsTest extends Calificador {
+
+    /**
+     * Operaciones con pedazos pequeños para que las tareas se partan muchas
+     * veces.
+     */
+    protected ParallelLists parallel = new ParallelLists(new ForkJoinPool(SMALL_RANGE), SMALL_RANGE);
+
+    @Override
+    protected void setCategories() {
+        defineCategories(new String[] {
+            "sort",
+            "map",
+            "reduce"
+        }, new double[] {
+            0.4,
+            0.3,
+            0.3
+        });
+    }
+
+    /**
+     * Crea una lista con valores aleatorios.
+     *
+     * @param n Cantidad de valores.
+     *
+     * @return La lista y una copia de referencia.
+     */
+    protected ArrayList<Integer> randomList(int n, java.util.List<Integer> expected) {
+        ArrayList<Integer> list = new ArrayList<>();
+        int value;
+
+        for (int i = 0; i < n; i++) {
+            value = rdm.nextInt(range);
+            list.add(i, value);
+            expected.add(value);
+        }
+
+        return list;
+    }
+
+    @Test
+    public void sortTest() {
+        ArrayList<Integer> list;
+        java.util.List<Integer> expected;
+
+        startTest("Revisa que sort ordene igual que una lista de referencia, con y sin comparador", 1.0, "sort");
+
+        for (int n = 0; n < range * SMALL_RANGE; n += rdm.nextInt(SMALL_RANGE) + 1) {
+            expected = new java.util.ArrayList<>();
+            list = randomList(n, expected);
+            parallel.sort(list, null);
+            expected.sort(null);
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected.get(i), list.get(i));
+            }
+
+            parallel.sort(list, Comparator.reverseOrder());
+            expected.sort(Comparator.reverseOrder());
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected.get(i), list.get(i));
+            }
+        }
+
+        /**
+         * Si el comparador falla a media ordenación de un pedazo la lista
+         * no cambia. Los pedazos son grandes para que Arrays.sort use
+         * TimSort y no solo inserción.
+         */
+        ParallelLists chunked = new ParallelLists(new ForkJoinPool(SMALL_RANGE), 500);
+        AtomicInteger budget = new AtomicInteger();
+        Comparator<Integer> failing = (a, b) -> {
+            if (budget.decrementAndGet() == 0) throw new IllegalStateException("Comparador roto");
+            return Integer.compare(a, b);
+        };
+        for (int k = 0; k < range * SMALL_RANGE; k++) {
+            expected = new java.util.ArrayList<>();
+            list = randomList(4000, expected);
+            budget.set(1 + rdm.nextInt(4000 * 12));
+            try {
+                chunked.sort(list, failing);
+                expected.sort(null);
+            } catch (IllegalStateException e) {
+                // La lista debe seguir igual que la de referencia.
+            }
+            assertEquals(expected.size(), list.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), list.get(i));
+            }
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void mapTest() {
+        ArrayList<Integer> list, mapped, filtered;
+        java.util.List<Integer> expected;
+        AtomicLong sum;
+        int n, j;
+
+        startTest("Revisa que map, filter y forEach visiten todos los elementos y conserven el orden", 1.0, "map");
+
+        n = range * SMALL_RANGE + 1;
+        expected = new java.util.ArrayList<>();
+        list = randomList(n, expected);
+
+        mapped = parallel.map(list, x -> x * 2);
+        assertEquals(n, mapped.size());
+        for (int i = 0; i < n; i++) {
+            assertEquals(expected.get(i) * 2, (int) mapped.get(i));
+        }
+
+        filtered = parallel.filter(list, x -> x % 2 == 0);
+        j = 0;
+        for (int i = 0; i < n; i++) {
+            if (expected.get(i) % 2 == 0) {
+                assertEquals(expected.get(i), filtered.get(j++));
+            }
+        }
+        assertEquals(j, filtered.size());
+
+        sum = new AtomicLong();
+        parallel.forEach(list, x -> sum.addAndGet(x));
+        assertEquals(expected.stream().mapToLong(x -> x).sum(), sum.get());
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void reduceTest() {
+        ArrayList<Integer> list, prefix;
+        java.util.List<Integer> expected;
+        int n, acc;
+
+        startTest("Revisa que reduce y scan combinen los elementos en orden", 1.0, "reduce");
+
+        n = range * SMALL_RANGE + 3;
+        expected = new java.util.ArrayList<>();
+        list = randomList(n, expected);
+
+        assertEquals(expected.stream().mapToInt(x -> x).sum(), (int) parallel.reduce(list, 0, Integer::sum));
+        assertEquals(0, (int) parallel.reduce(new ArrayList<Integer>(), 0, Integer::sum));
+
+        prefix = parallel.scan(list, Integer::sum);
+        acc = 0;
+        for (int i = 0; i < n; i++) {
+            acc += expected.get(i);
+            assertEquals(acc, (int) prefix.get(i));
+        }
+        assertEquals(0, parallel.scan(new ArrayList<Integer>(), Integer::sum).size());
+
+        addUp(1.0);
+        passed();
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import java.util.Iterator;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import edd.Calificador;
+
+/**
+ * Clase que agrega pruebas unitarias para la clase PersistentVector.
+ *
+ * @author mindahrelfen
+ */
+public class PersistentVectorTest extends Calificador {
+
+    /**
+     * Cantidad de elementos suficiente para que el árbol tenga cuatro
+     * niveles, 32 * 32 * 32 hojas más tail.
+     */
+    protected static final int DEEP = (1 << 15) + (1 << 10) + 7;
+
+    @Override
+    protected void setCategories() {
+        defineCategories(new String[] {
+            "add",
+            "set",
+            "builder"
+        }, new double[] {
+            0.4,
+            0.3,
+            0.3
+        });
+    }
+
+    /**
+     * Revisa que el vector tenga los mismos elementos que la lista de
+     * referencia, por índice y con el iterador.
+     */
+    protected static void check(java.util.List<Integer> expected, PersistentVector<Integer> v) {
+        Iterator<Integer> it = v.iterator();
+
+        assertEquals(expected.size(), v.size());
+        assertEquals(expected.isEmpty(), v.isEmpty());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), v.get(i));
+            assertEquals(expected.get(i), it.next());
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void addTest() {
+        java.util.List<PersistentVector<Integer>> versions = new java.util.ArrayList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        java.util.List<Integer> full;
+        PersistentVector<Integer> v = PersistentVector.empty();
+
+        startTest("Revisa que add y removeLast devuelvan versiones nuevas sin cambiar las anteriores", 1.0, "add");
+
+        /**
+         * Se guarda una versión por cada tamaño que cambia la forma del
+         * árbol y algunas al azar.
+         */
+        for (int i = 0; i < DEEP; i++) {
+            if (Integer.bitCount(i) == 1 || rdm.nextInt(LARGE_RANGE * range) == 0) versions.add(v);
+            v = v.add(i);
+            expected.add(i);
+        }
+        full = new java.util.ArrayList<>(expected);
+        check(expected, v);
+        for (PersistentVector<Integer> old : versions) {
+            check(full.subList(0, old.size()), old);
+        }
+
+        /**
+         * Se borra hasta vaciarlo, pasando por todos los tamaños.
+         */
+        while (!v.isEmpty()) {
+            v = v.removeLast();
+            expected.remove(expected.size() - 1);
+            if (Integer.bitCount(v.size()) <= 1 || rdm.nextInt(LARGE_RANGE * range) == 0) check(expected, v);
+        }
+        for (PersistentVector<Integer> old : versions) {
+            check(full.subList(0, old.size()), old);
+        }
+
+        try {
+            v.removeLast();
+            fail();
+        } catch (java.util.NoSuchElementException e) {
+        }
+        try {
+            versions.get(versions.size() - 1).get(-1);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void setTest() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        PersistentVector<Integer> v, w;
+        int n, index, value;
+
+        startTest("Revisa que set cambie solo la versión nueva", 1.0, "set");
+
+        n = range * LARGE_RANGE + rdm.nextInt(range);
+        for (int i = 0; i < n; i++) {
+            expected.add(rdm.nextInt(range));
+        }
+        v = PersistentVector.of(expected);
+        check(expected, v);
+
+        for (int k = 0; k < range * MEDIUM_RANGE; k++) {
+            index = rdm.nextInt(n);
+            value = rdm.nextInt(range) - range;
+            w = v.set(index, value);
+            assertEquals(expected.get(index), v.get(index));
+            assertEquals(value, (int) w.get(index));
+            expected.set(index, value);
+            v = w;
+        }
+        check(expected, v);
+
+        try {
+            v.set(n, 0);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void builderTest() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        java.util.List<Integer> copy;
+        PersistentVector.Builder<Integer> builder = new PersistentVector.Builder<>();
+        PersistentVector<Integer> snapshot;
+        int index, value;
+
+        startTest("Revisa que los cambios del constructor no se vean en vectores ya tomados", 1.0, "builder");
+
+        assertTrue(builder.snapshot().isEmpty());
+
+        for (int round = 0; round < range; round++) {
+            for (int i = rdm.nextInt(range * LARGE_RANGE); i > 0; i--) {
+                value = rdm.nextInt(range);
+                builder.add(value);
+                expected.add(value);
+            }
+            snapshot = builder.snapshot();
+            copy = new java.util.ArrayList<>(expected);
+
+            // Escrituras después de tomar el vector.
+            for (int k = 0; k < range && !expected.isEmpty(); k++) {
+                index = rdm.nextInt(expected.size());
+                value = rdm.nextInt(range) - range;
+                assertEquals(expected.get(index), builder.set(index, value));
+                expected.set(index, value);
+            }
+            for (int k = rdm.nextInt(range); k > 0; k--) {
+                builder.add(-1);
+                expected.add(-1);
+            }
+
+            check(copy, snapshot);
+            assertEquals(expected.size(), builder.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i), builder.get(i));
+            }
+
+            // Un constructor sacado de un vector tampoco lo cambia.
+            PersistentVector.Builder<Integer> other = snapshot.toBuilder();
+            if (!copy.isEmpty()) other.set(0, Integer.MIN_VALUE);
+            other.add(Integer.MAX_VALUE);
+            check(copy, snapshot);
+            assertEquals(copy.size() + 1, other.snapshot().size());
+        }
+        check(expected, builder.snapshot());
+
+        addUp(1.0);
+        passed();
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import java.util.PrimitiveIterator;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import edd.Calificador;
+
+/**
+ * Clase que agrega pruebas unitarias para las listas especializadas en tipos
+ * primitivos.
+ *
+ * @author mindahrelfen
+ */
+public class PrimitiveArrayListTest extends Calificador {
+
+    @Override
+    protected void setCategories() {
+        defineCategories(new String[] {
+            "int",
+            "long",
+            "double"
+        }, new double[] {
+            0.4,
+            0.3,
+            0.3
+        });
+    }
+
+    @Test
+    public void intTest() {
+        int index, value;
+        IntArrayList list;
+        java.util.List<Integer> expected;
+        PrimitiveIterator.OfInt it;
+
+        startTest("Revisa que IntArrayList guarde, modifique y borre valores igual que una lista de referencia", 1.0, "int");
+
+        /**
+         * Inserta valores en índices aleatorios.
+         */
+        list = new IntArrayList(0);
+        expected = new java.util.ArrayList<>();
+        for (int i = 0; i < range; i++) {
+            index = rdm.nextInt(list.size() + 1);
+            value = rdm.nextInt();
+            list.addInt(index, value);
+            expected.add(index, value);
+        }
+
+        /**
+         * Modifica y borra valores en índices aleatorios.
+         */
+        index = rdm.nextInt(list.size());
+        assertEquals((int) expected.set(index, -1), list.setInt(index, -1));
+        index = rdm.nextInt(list.size());
+        assertEquals((int) expected.remove(index), list.removeInt(index));
+
+        /**
+         * Revisa el contenido con el iterador primitivo y con get(int).
+         */
+        it = list.iterator();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals((int) expected.get(i), it.nextInt());
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertFalse(it.hasNext());
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void intListTest() {
+        List<Integer> list;
+
+        startTest("Revisa que IntArrayList funcione a través de la interfaz List", 1.0, "int");
+
+        list = new IntArrayList();
+        for (int i = 0; i < range; i++) {
+            list.add(list.size(), i);
+        }
+        list.addAll(0, list);
+        list.removeRange(0, range / 2);
+
+        assertEquals(list.size(), range + range / 2);
+        assertEquals((int) list.get(0), range / 2);
+        assertEquals((int) list.get(list.size() - 1), range - 1);
+
+        try {
+            list.add(0, null);
+        } catch (NullPointerException e) {
+            addUp(1.0);
+            passed();
+        }
+    }
+
+    @Test
+    public void longTest() {
+        LongArrayList list;
+        PrimitiveIterator.OfLong it;
+
+        startTest("Revisa que LongArrayList guarde valores fuera del rango de int", 1.0, "long");
+
+        list = new LongArrayList();
+        for (int i = 0; i < range; i++) {
+            list.addLong(Long.MAX_VALUE - i);
+        }
+        list.removeLong(0);
+
+        it = list.iterator();
+        for (int i = 1; i < range; i++) {
+            assertEquals(Long.MAX_VALUE - i, it.nextLong());
+        }
+        assertFalse(it.hasNext());
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void doubleTest() {
+        DoubleArrayList list;
+        PrimitiveIterator.OfDouble it;
+
+        startTest("Revisa que DoubleArrayList guarde valores y que el iterador pueda borrarlos", 1.0, "double");
+
+        list = new DoubleArrayList();
+        for (int i = 0; i < range; i++) {
+            list.addDouble(i / 2.0);
+        }
+
+        /**
+         * Borra los valores con parte fraccionaria usando el iterador.
+         */
+        it = list.iterator();
+        while (it.hasNext()) {
+            if (it.nextDouble() % 1.0 != 0.0) it.remove();
+        }
+
+        assertEquals(list.size(), (range + 1) / 2);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.getDouble(i), 0.0);
+        }
+
+        addUp(1.0);
+        passed();
+    }
+}
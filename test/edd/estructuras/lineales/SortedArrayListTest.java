@@ -0,0 +1,219 @@
+/**
+ * Código utilizado para el curso de Estructuras de Datos.
+ *
+ * Se permite consultarlo para fines didácticos de forma personal, pero no está
+ * permitido transferirlo tal cual a estudiantes actuales o potenciales pues se
+ * afectará su realización de los ejercicios.
+ */
+
+package edd.estructuras.lineales;
+
+import java.util.Comparator;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import edd.Calificador;
+
+/**
+ * Clase que agrega pruebas unitarias para la clase SortedArrayList.
+ *
+ * @author mindahrelfen
+ */
+public class SortedArrayListTest extends Calificador {
+
+    @Override
+    protected void setCategories() {
+        defineCategories(new String[] {
+            "add",
+            "get"
+        }, new double[] {
+            0.5,
+            0.5
+        });
+    }
+
+    @Test
+    public void addTest() {
+        SortedArrayList<String> list;
+        java.util.List<String> expected, more;
+        Comparator<String> byKey;
+        String s;
+
+        startTest("Revisa que add(E) y addAll mantengan el orden y que los iguales conserven el orden de inserción", 1.0, "add");
+
+        /**
+         * Cada elemento lleva su número de inserción para revisar la
+         * estabilidad, el comparador solo usa la clave.
+         */
+        byKey = Comparator.comparing(e -> e.substring(0, e.indexOf(':')));
+        list = new SortedArrayList<>(byKey);
+        expected = new java.util.ArrayList<>();
+        for (int i = 0; i < range * SMALL_RANGE; i++) {
+            s = rdm.nextInt(range) + ":" + i;
+            list.add(s);
+            expected.add(s);
+        }
+
+        more = new java.util.ArrayList<>();
+        for (int i = 0; i < range * SMALL_RANGE; i++) {
+            more.add(rdm.nextInt(range) + ":" + -i);
+        }
+        list.addAll(more);
+        expected.addAll(more);
+        list.addAll(list);
+        expected.addAll(new java.util.ArrayList<>(expected));
+
+        expected.sort(byKey);
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+
+        /**
+         * Revisa que los métodos por índice rechacen elementos fuera de
+         * orden.
+         */
+        try {
+            list.add(0, range + ":x");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Se esperaba la excepción.
+        }
+        try {
+            list.set(list.size() - 1, "0:x");
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Se esperaba la excepción.
+        }
+        list.add(0, "0:x");
+        assertEquals("0:x", list.get(0));
+
+        /**
+         * addAll con índice también solo acepta bloques que quepan en orden
+         * en esa posición.
+         */
+        try {
+            list.addAll(0, java.util.Arrays.asList("0:y", "~:y"));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Se esperaba la excepción.
+        }
+        try {
+            list.addAll(list.size(), java.util.Arrays.asList("~:z", "0:z"));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Se esperaba la excepción.
+        }
+        list.addAll(list.size(), java.util.Arrays.asList("~:y", "~:z"));
+        assertEquals("~:z", list.get(list.size() - 1));
+        assertEquals("~:y", list.get(list.size() - 2));
+
+        /**
+         * El add del iterador rechaza el elemento sin mover el cursor.
+         */
+        SortedArrayList<Integer> ints = new SortedArrayList<>();
+        ints.addAll(java.util.Arrays.asList(1, 5, 9));
+        java.util.ListIterator<Integer> it = ints.listIterator(1);
+        try {
+            it.add(100);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Se esperaba la excepción.
+        }
+        assertEquals(1, it.nextIndex());
+        assertEquals(5, (int) it.next());
+
+        /**
+         * Si el comparador falla a media mezcla la lista no cambia.
+         */
+        int[] budget = new int[1];
+        SortedArrayList<Integer> failing = new SortedArrayList<>((a, b) -> {
+            if (budget[0]-- == 0) throw new IllegalStateException("Comparador roto");
+            return Integer.compare(a, b);
+        });
+        budget[0] = -1;
+        for (int i = 0; i < range; i++) {
+            failing.add(i * 2);
+        }
+        java.util.List<Integer> before = new java.util.ArrayList<>();
+        for (Integer x : failing) {
+            before.add(x);
+        }
+        java.util.List<Integer> odd = new java.util.ArrayList<>();
+        for (int i = 0; i < SMALL_RANGE; i++) {
+            odd.add(rdm.nextInt(range * 2) | 1);
+        }
+        for (int k = 0; k < range; k++) {
+            budget[0] = k;
+            try {
+                failing.addAll(odd);
+                break;
+            } catch (IllegalStateException e) {
+                assertEquals(before.size(), failing.size());
+                for (int i = 0; i < before.size(); i++) {
+                    assertEquals(before.get(i), failing.get(i));
+                }
+            }
+        }
+
+        addUp(1.0);
+        passed();
+    }
+
+    @Test
+    public void searchTest() {
+        SortedArrayList<Integer> list;
+        Integer floor, ceiling;
+
+        startTest("Revisa que indexOf, contains, floor y ceiling coincidan con una búsqueda lineal", 1.0, "get");
+
+        list = new SortedArrayList<>();
+        for (int i = 0; i < range; i++) {
+            list.add(rdm.nextInt(range * 2) * 2);
+        }
+
+        for (int x = -1; x <= range * 4 + 1; x++) {
+            floor = null;
+            ceiling = null;
+            for (int i = 0; i < list.size(); i++) {
+                if (list.get(i) <= x) floor = list.get(i);
+                if (list.get(i) >= x && ceiling == null) ceiling = list.get(i);
+            }
+            assertEquals(floor, list.floor(x));
+            assertEquals(ceiling, list.ceiling(x));
+            assertEquals(ceiling != null && ceiling == x, list.contains(x));
+            if (list.contains(x)) {
+                assertEquals(x, (int) list.get(list.indexOf(x)));
+                assertTrue(list.indexOf(x) == 0 || list.get(list.indexOf(x) - 1) < x);
+            } else {
+                assertEquals(-1, list.indexOf(x));
+            }
+        }
+        assertEquals(-1, list.indexOf("0"));
+        assertEquals(-1, list.indexOf(null));
+
+        /**
+         * Una excepción del comparador a media búsqueda no se confunde con
+         * un elemento que no está.
+         */
+        boolean[] broken = new boolean[1];
+        SortedArrayList<Integer> buggy = new SortedArrayList<>((a, b) -> {
+            if (broken[0] && a != 0 && b != 0) throw new NullPointerException("Comparador roto");
+            return Integer.compare(a, b);
+        });
+        for (int i = 0; i < range; i++) {
+            buggy.add(i);
+        }
+        broken[0] = true;
+        try {
+            buggy.indexOf(range - 1);
+            fail();
+        } catch (NullPointerException e) {
+            // Se esperaba la excepción.
+        }
+
+        addUp(1.0);
+        passed();
+    }
+}